@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.car.insurance.api.domain.Car;
@@ -17,12 +18,15 @@ import com.car.insurance.api.domain.Claim;
 import com.car.insurance.api.domain.Customer;
 import com.car.insurance.api.domain.Driver;
 import com.car.insurance.api.domain.Insurance;
+import com.car.insurance.api.domain.PricingRule;
+import com.car.insurance.api.domain.PricingRuleType;
 import com.car.insurance.api.domain.repository.CarDriverRepository;
 import com.car.insurance.api.domain.repository.CarRepository;
 import com.car.insurance.api.domain.repository.ClaimRepository;
 import com.car.insurance.api.domain.repository.CustomerRepository;
 import com.car.insurance.api.domain.repository.DriverRepository;
 import com.car.insurance.api.domain.repository.InsuranceRepository;
+import com.car.insurance.api.domain.repository.PricingRuleRepository;
 import com.car.insurance.api.security.domain.Resource;
 import com.car.insurance.api.security.domain.ResourceScope;
 import com.car.insurance.api.security.domain.Scope;
@@ -35,6 +39,7 @@ import com.car.insurance.api.security.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
+@EnableScheduling
 @SpringBootApplication
 public class CarInsuranceApiApplication implements CommandLineRunner {
 
@@ -70,6 +75,9 @@ public class CarInsuranceApiApplication implements CommandLineRunner {
 
 	@Autowired
 	private ResourceScopeRepository resourceScopeRepository;
+
+	@Autowired
+	private PricingRuleRepository pricingRuleRepository;
 	// @Autowired
 	// private BudgetRepository budgetRepository;
 
@@ -164,6 +172,13 @@ public class CarInsuranceApiApplication implements CommandLineRunner {
 		claim1 = claimRepository.save(claim1);
 		claim2 = claimRepository.save(claim2);
 
+		log.info("Inserindo regras de precificação");
+		pricingRuleRepository.saveAll(Arrays.asList(
+				new PricingRule(null, PricingRuleType.BASE_RATE, 0.06, null, null, true),
+				new PricingRule(null, PricingRuleType.MAIN_DRIVER_AGE, 0.02, 18, 25, true),
+				new PricingRule(null, PricingRuleType.DRIVER_CLAIMS, 0.02, null, null, true),
+				new PricingRule(null, PricingRuleType.CAR_CLAIMS, 0.02, null, null, true)));
+
 		// log.info("Inserindo budgets de teste");
 		// Budget budget1 = new Budget(null, car1, customer1, 10000d);
 		// budget1 = budgetRepository.save(budget1);
@@ -4,7 +4,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import lombok.AllArgsConstructor;
@@ -19,11 +21,12 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "budget")
+@Table(name = "budget", indexes = @Index(name = "idx_budget_customer_id", columnList = "customer_id, id"))
 public class Budget {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "budget_seq")
+	@SequenceGenerator(name = "budget_seq", sequenceName = "budget_seq", allocationSize = 50)
 	private Integer id;
 
 	@ManyToOne
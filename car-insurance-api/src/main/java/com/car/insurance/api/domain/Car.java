@@ -3,12 +3,16 @@ package com.car.insurance.api.domain;
 import java.util.List;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import com.car.insurance.api.domain.listener.QuoteCacheListener;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,9 +22,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "car")
+@EntityListeners(QuoteCacheListener.class)
 public class Car {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "car_seq")
+	@SequenceGenerator(name = "car_seq", sequenceName = "car_seq", allocationSize = 50)
 	private Integer id;
 
 	private String model;
@@ -31,6 +37,6 @@ public class Car {
 
 	private Float fipeValue;
 	
-	@OneToMany
+	@OneToMany(mappedBy = "car")
 	private List<CarDriver> carDriver;
 }
@@ -1,12 +1,18 @@
 package com.car.insurance.api.domain;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import com.car.insurance.api.domain.listener.QuoteCacheListener;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,19 +22,22 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "car_driver")
+@EntityListeners(QuoteCacheListener.class)
 public class CarDriver {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "car_driver_seq")
+	@SequenceGenerator(name = "car_driver_seq", sequenceName = "car_driver_seq", allocationSize = 50)
 	private Integer id;
 
 	@ManyToOne
 	private Driver driver;
 
 	@ManyToOne
+	@JoinColumn(name = "car_id")
 	private Car car;
 	
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	private Budget budget;
 
 	private Boolean mainDriver;
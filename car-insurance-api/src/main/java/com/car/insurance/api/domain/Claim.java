@@ -3,21 +3,30 @@ package com.car.insurance.api.domain;
 import java.time.LocalDateTime;
 
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+
+import com.car.insurance.api.domain.listener.ClaimIndexListener;
+import com.car.insurance.api.domain.listener.QuoteCacheListener;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "claim")
+// o QuoteCacheListener lê os ids carregados antes de o ClaimIndexListener atualizá-los
+@EntityListeners({ QuoteCacheListener.class, ClaimIndexListener.class })
 public class Claim {
 
 	@Id
@@ -31,4 +40,22 @@ public class Claim {
 
 	@ManyToOne
 	private Car car;
+
+	/**
+	 * Condutor e carro como estavam no banco quando a entidade foi carregada ou gravada, para que o
+	 * ClaimIndexListener saiba quais ids uma alteração deixou.
+	 */
+	@Transient
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private Integer loadedDriverId;
+
+	@Transient
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private Integer loadedCarId;
+
+	public Claim(Integer id, LocalDateTime eventDate, Driver driver, Car car) {
+		this(id, eventDate, driver, car, null, null);
+	}
 }
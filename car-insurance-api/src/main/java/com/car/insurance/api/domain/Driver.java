@@ -6,6 +6,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -22,7 +23,8 @@ import lombok.NoArgsConstructor;
 public class Driver {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "driver_seq")
+	@SequenceGenerator(name = "driver_seq", sequenceName = "driver_seq", allocationSize = 50)
 	private Integer id;
 
 	private String document;
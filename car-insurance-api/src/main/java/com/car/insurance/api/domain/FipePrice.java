@@ -0,0 +1,36 @@
+package com.car.insurance.api.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "fipe_price", indexes = @Index(name = "idx_fipe_price_reference_month", columnList = "reference_month"))
+public class FipePrice {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fipe_price_seq")
+	@SequenceGenerator(name = "fipe_price_seq", sequenceName = "fipe_price_seq", allocationSize = 50)
+	private Integer id;
+
+	private String referenceMonth;
+
+	private String manufacturer;
+
+	private String model;
+
+	private String releaseYear;
+
+	private Float price;
+}
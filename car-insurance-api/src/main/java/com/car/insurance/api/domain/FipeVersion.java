@@ -0,0 +1,28 @@
+package com.car.insurance.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "fipe_version")
+public class FipeVersion {
+
+	@Id
+	private String referenceMonth;
+
+	private Integer entries;
+
+	private Boolean active;
+
+	private LocalDateTime activatedAt;
+}
@@ -0,0 +1,8 @@
+package com.car.insurance.api.domain;
+
+public enum PricingRuleType {
+	BASE_RATE,
+	MAIN_DRIVER_AGE,
+	DRIVER_CLAIMS,
+	CAR_CLAIMS
+}
@@ -0,0 +1,42 @@
+package com.car.insurance.api.domain;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Faixa de ids de orçamento atribuída a um worker do reprecificador. O lastBudgetId é o último
+ * id já gravado, de onde a faixa continua se a execução for retomada.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "repricing_checkpoint", indexes = @Index(name = "idx_repricing_checkpoint_run_id", columnList = "run_id"))
+public class RepricingCheckpoint {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	private String runId;
+
+	private Integer worker;
+
+	private Integer upperBound;
+
+	private Integer lastBudgetId;
+
+	private Boolean finished;
+
+	private LocalDateTime updatedAt;
+}
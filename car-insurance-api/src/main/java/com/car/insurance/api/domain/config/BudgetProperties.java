@@ -0,0 +1,44 @@
+package com.car.insurance.api.domain.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@Data
+public class BudgetProperties {
+
+	@Value("${budget.batch.max-size:500}")
+	private int batchMaxSize;
+
+	@Value("${budget.quote-cache.max-size:10000}")
+	private long quoteCacheMaxSize;
+
+	@Value("${budget.quote-cache.expire-after-write-minutes:60}")
+	private long quoteCacheExpireAfterWriteMinutes;
+
+	@Value("${budget.lookups.concurrent:false}")
+	private boolean concurrentLookups;
+
+	@Value("${budget.lookups.pool-size:16}")
+	private int lookupPoolSize;
+
+	@Value("${budget.lookups.queue-capacity:200}")
+	private int lookupQueueCapacity;
+
+	@Value("${budget.lookups.timeout-ms:2000}")
+	private long lookupTimeoutMs;
+
+	@Value("${budget.page.default-size:20}")
+	private int pageDefaultSize;
+
+	@Value("${budget.page.max-size:100}")
+	private int pageMaxSize;
+
+	@Value("${budget.repricing.workers:4}")
+	private int repricingWorkers;
+
+	@Value("${budget.repricing.chunk-size:500}")
+	private int repricingChunkSize;
+}
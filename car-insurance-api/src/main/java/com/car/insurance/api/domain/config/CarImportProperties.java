@@ -0,0 +1,20 @@
+package com.car.insurance.api.domain.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@Data
+public class CarImportProperties {
+
+	@Value("${car.import.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${car.import.max-reported-errors:1000}")
+	private int maxReportedErrors;
+
+	@Value("${car.import.retained-jobs:20}")
+	private int retainedJobs;
+}
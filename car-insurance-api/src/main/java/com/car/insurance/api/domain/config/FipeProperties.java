@@ -0,0 +1,14 @@
+package com.car.insurance.api.domain.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@Data
+public class FipeProperties {
+
+	@Value("${fipe.table.directory:${java.io.tmpdir}/car-insurance-fipe}")
+	private String tableDirectory;
+}
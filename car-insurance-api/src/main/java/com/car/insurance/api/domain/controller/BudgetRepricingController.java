@@ -0,0 +1,34 @@
+package com.car.insurance.api.domain.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.car.insurance.api.domain.dto.RepricingStatusDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.service.BudgetRepricingService;
+
+@RestController
+@RequestMapping(value = "/api/v1/insurance/budget/repricing")
+public class BudgetRepricingController {
+
+	@Autowired
+	private BudgetRepricingService service;
+
+	@PostMapping()
+	public ResponseEntity<RepricingStatusDto> start() {
+		RepricingStatusDto response = service.start();
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+	}
+
+	@GetMapping("/{runId}")
+	public ResponseEntity<RepricingStatusDto> getStatus(@PathVariable String runId) throws CustomBusinessException {
+		RepricingStatusDto response = service.getStatus(runId);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
@@ -0,0 +1,39 @@
+package com.car.insurance.api.domain.controller;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.car.insurance.api.domain.dto.CarImportReportDto;
+import com.car.insurance.api.domain.service.CarImportService;
+
+@RestController
+@RequestMapping(value = "/api/v1/insurance/cars")
+public class CarImportController {
+
+	@Autowired
+	private CarImportService service;
+
+	@PostMapping(value = "/import", consumes = "text/csv")
+	public ResponseEntity<CarImportReportDto> importCars(HttpServletRequest request) throws IOException {
+		CarImportReportDto response = service
+				.importCars(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	@GetMapping("/import")
+	public ResponseEntity<List<CarImportReportDto>> getImports() {
+		return ResponseEntity.status(HttpStatus.OK).body(service.getImports());
+	}
+}
@@ -0,0 +1,52 @@
+package com.car.insurance.api.domain.controller;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.car.insurance.api.domain.dto.FipePriceDto;
+import com.car.insurance.api.domain.dto.FipeVersionDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.service.FipePriceService;
+
+@RestController
+@RequestMapping(value = "/api/v1/insurance/fipe")
+public class FipePriceController {
+
+	@Autowired
+	private FipePriceService service;
+
+	@PutMapping("/{referenceMonth}")
+	public ResponseEntity<FipeVersionDto> importPrices(
+			@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth referenceMonth,
+			@RequestBody List<FipePriceDto> prices) throws CustomBusinessException {
+		FipeVersionDto response = service.importPrices(referenceMonth.toString(), prices);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	@PostMapping("/{referenceMonth}/activate")
+	public ResponseEntity<FipeVersionDto> activate(
+			@PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth referenceMonth)
+			throws CustomBusinessException, IOException {
+		FipeVersionDto response = service.activate(referenceMonth.toString());
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	@GetMapping("/active")
+	public ResponseEntity<FipeVersionDto> getActiveVersion() throws CustomBusinessException {
+		FipeVersionDto response = service.getActiveVersion();
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
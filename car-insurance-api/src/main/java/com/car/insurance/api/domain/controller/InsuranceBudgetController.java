@@ -1,10 +1,16 @@
 package com.car.insurance.api.domain.controller;
 
+import java.util.List;
+
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,8 +18,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.car.insurance.api.domain.dto.BudgetBatchItemDto;
+import com.car.insurance.api.domain.dto.BudgetPageDto;
 import com.car.insurance.api.domain.dto.BudgetRequestDTO;
 import com.car.insurance.api.domain.dto.BudgetResponseDto;
 import com.car.insurance.api.domain.exception.CustomBusinessException;
@@ -21,6 +31,7 @@ import com.car.insurance.api.domain.service.BudgetService;
 import com.car.insurance.api.security.exception.UserNotFoundException;
 
 @RestController
+@Validated
 @RequestMapping(value = "/api/v1/insurance/budget")
 public class InsuranceBudgetController {
 
@@ -33,6 +44,20 @@ public class InsuranceBudgetController {
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
 
+	@GetMapping()
+	public ResponseEntity<BudgetPageDto> listBudgets(@RequestParam Integer customerId,
+			@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer size) {
+		BudgetPageDto response = service.listBudgets(customerId, after, size);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	@GetMapping(value = "/export", produces = "application/x-ndjson")
+	public ResponseEntity<StreamingResponseBody> exportBudgets() {
+		StreamingResponseBody body = out -> service.exportBudgets(out);
+		return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.parseMediaType("application/x-ndjson"))
+				.body(body);
+	}
+
 	@PostMapping()
 	public ResponseEntity<Void> createBudget(@Valid @RequestBody BudgetRequestDTO budgetDto)
 			throws CustomBusinessException {
@@ -40,6 +65,19 @@ public class InsuranceBudgetController {
 		return ResponseEntity.status(HttpStatus.CREATED).build();
 	}
 
+	/**
+	 * O lote inteiro é recusado com 400 se estiver vazio ou tiver item nulo ou sem carro/cliente;
+	 * o limite de tamanho (budget.batch.max-size) é conferido pelo serviço.
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<List<BudgetBatchItemDto>> createBudgets(
+			@RequestBody @NotEmpty(message = "O lote deve conter ao menos um orçamento.")
+			List<@NotNull(message = "Item do lote não deve ser nulo.") @Valid BudgetRequestDTO> budgetDtos)
+			throws CustomBusinessException {
+		List<BudgetBatchItemDto> response = service.createBudgets(budgetDtos);
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
 	@PutMapping()
 	public ResponseEntity<Void> updateBudget(@Valid @RequestBody BudgetRequestDTO budgetDto)
 			throws UserNotFoundException, CustomBusinessException {
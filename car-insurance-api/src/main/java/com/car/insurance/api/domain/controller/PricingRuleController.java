@@ -0,0 +1,27 @@
+package com.car.insurance.api.domain.controller;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.car.insurance.api.domain.pricing.PricingTariff;
+import com.car.insurance.api.domain.service.PricingRuleService;
+
+@RestController
+@RequestMapping(value = "/api/v1/insurance/pricing-rules")
+public class PricingRuleController {
+
+	@Autowired
+	private PricingRuleService service;
+
+	@PostMapping("/reload")
+	public ResponseEntity<Map<String, Long>> reload() {
+		PricingTariff tariff = service.reload();
+		return ResponseEntity.ok().body(Collections.singletonMap("version", tariff.getVersion()));
+	}
+}
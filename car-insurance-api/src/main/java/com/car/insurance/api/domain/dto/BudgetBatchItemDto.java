@@ -0,0 +1,23 @@
+package com.car.insurance.api.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class BudgetBatchItemDto {
+
+	private Integer index;
+	private Integer carId;
+	private Integer customerId;
+	private Integer budgetId;
+	private Double amount;
+	private Boolean created;
+	private String message;
+}
@@ -0,0 +1,23 @@
+package com.car.insurance.api.domain.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Linha plana do orçamento com um condutor do carro, montada direto pela consulta.
+ */
+@Getter
+@AllArgsConstructor
+public class BudgetDriverRow {
+
+	private Double amount;
+	private String carModel;
+	private String carManufacturer;
+	private String carYear;
+	private Integer carDriverId;
+	private String driverDocument;
+	private LocalDate driverBirthdate;
+	private Boolean mainDriver;
+}
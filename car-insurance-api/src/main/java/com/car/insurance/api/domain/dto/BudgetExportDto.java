@@ -0,0 +1,15 @@
+package com.car.insurance.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BudgetExportDto {
+
+	private Integer id;
+	private Integer customerId;
+	private Integer carId;
+	private String carModel;
+	private Double amount;
+}
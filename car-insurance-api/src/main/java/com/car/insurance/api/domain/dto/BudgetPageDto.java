@@ -0,0 +1,22 @@
+package com.car.insurance.api.domain.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Página de orçamentos. O nextCursor é o id a ser enviado em "after" para buscar a próxima página
+ * e só é preenchido quando ainda existem registros.
+ */
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class BudgetPageDto {
+
+	private List<BudgetSummaryDto> items;
+	private Integer nextCursor;
+}
@@ -1,12 +1,21 @@
 package com.car.insurance.api.domain.dto;
 
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+
 import lombok.Data;
 
 @Data
 public class BudgetRequestDTO {
 
 	private Integer budgetId;
+
+	@NotNull(message = "Carro deve ser informado.")
+	@Positive(message = "Carro inválido.")
 	private Integer carId;
+
+	@NotNull(message = "Cliente deve ser informado.")
+	@Positive(message = "Cliente inválido.")
 	private Integer customerId;
 
 }
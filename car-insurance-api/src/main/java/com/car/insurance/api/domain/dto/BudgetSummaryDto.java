@@ -0,0 +1,14 @@
+package com.car.insurance.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BudgetSummaryDto {
+
+	private Integer id;
+	private Integer carId;
+	private String carModel;
+	private Double amount;
+}
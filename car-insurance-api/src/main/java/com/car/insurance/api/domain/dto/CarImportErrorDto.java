@@ -0,0 +1,12 @@
+package com.car.insurance.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CarImportErrorDto {
+
+	private long line;
+	private String message;
+}
@@ -0,0 +1,28 @@
+package com.car.insurance.api.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class CarImportReportDto {
+
+	private String id;
+	private String status;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long linesRead;
+	private long carsCreated;
+	private long driversCreated;
+	private long linksCreated;
+	private long errorCount;
+	private double rowsPerSecond;
+	private List<CarImportErrorDto> errors;
+}
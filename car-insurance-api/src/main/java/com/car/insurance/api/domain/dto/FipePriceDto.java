@@ -0,0 +1,18 @@
+package com.car.insurance.api.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FipePriceDto {
+
+	private String manufacturer;
+	private String model;
+	private String releaseYear;
+	private Float price;
+}
@@ -0,0 +1,20 @@
+package com.car.insurance.api.domain.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class FipeVersionDto {
+
+	private String referenceMonth;
+	private Integer entries;
+	private Boolean active;
+	private LocalDateTime activatedAt;
+}
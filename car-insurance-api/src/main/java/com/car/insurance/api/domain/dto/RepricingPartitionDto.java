@@ -0,0 +1,14 @@
+package com.car.insurance.api.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class RepricingPartitionDto {
+
+	private Integer worker;
+	private Integer lastBudgetId;
+	private Integer upperBound;
+	private Boolean finished;
+}
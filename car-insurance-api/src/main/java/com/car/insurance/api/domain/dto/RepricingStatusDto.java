@@ -0,0 +1,26 @@
+package com.car.insurance.api.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class RepricingStatusDto {
+
+	private String runId;
+	private String status;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private long repriced;
+	private long skipped;
+	private double budgetsPerSecond;
+	private String message;
+	private List<RepricingPartitionDto> partitions;
+}
@@ -0,0 +1,16 @@
+package com.car.insurance.api.domain.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BudgetBatchTooLargeException extends CustomBusinessException {
+
+	private static final long serialVersionUID = 4436287411390417802L;
+	private String message;
+
+	public BudgetBatchTooLargeException(String message) {
+		this.message = message;
+	}
+}
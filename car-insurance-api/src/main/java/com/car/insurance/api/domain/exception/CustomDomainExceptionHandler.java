@@ -1,5 +1,10 @@
 package com.car.insurance.api.domain.exception;
 
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -9,16 +14,31 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 @ControllerAdvice
 public class CustomDomainExceptionHandler extends ResponseEntityExceptionHandler {
 
-	@ExceptionHandler({ NoMainDriverRegisteredException.class })
+	@ExceptionHandler({ NoMainDriverRegisteredException.class, BudgetBatchTooLargeException.class,
+			InvalidFipePriceException.class })
 	public ResponseEntity<String> handleInvalidParameters(Exception ex) {
 		String errorMessage = ex.getMessage();
 		return ResponseEntity.badRequest().body(errorMessage);
 	}
 
-	@ExceptionHandler({ CarNotFoundException.class, CustomerNotFoundException.class, BudgetNotFoundException.class })
+	@ExceptionHandler({ ConstraintViolationException.class })
+	public ResponseEntity<String> constraintViolationException(ConstraintViolationException ex) {
+		String errorMessage = ex.getConstraintViolations().stream().map(ConstraintViolation::getMessage).sorted()
+				.collect(Collectors.joining(" "));
+		return ResponseEntity.badRequest().body(errorMessage);
+	}
+
+	@ExceptionHandler({ CarNotFoundException.class, CustomerNotFoundException.class, BudgetNotFoundException.class,
+			RepricingRunNotFoundException.class, FipeVersionNotFoundException.class })
 	public ResponseEntity<String> notFoundException(Exception ex) {
 		String errorMessage = ex.getMessage();
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
 	}
 
+	@ExceptionHandler({ QuoteTimeoutException.class })
+	public ResponseEntity<String> timeoutException(Exception ex) {
+		String errorMessage = ex.getMessage();
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorMessage);
+	}
+
 }
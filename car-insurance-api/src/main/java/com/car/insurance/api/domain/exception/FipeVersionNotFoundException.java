@@ -0,0 +1,16 @@
+package com.car.insurance.api.domain.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FipeVersionNotFoundException extends CustomBusinessException {
+
+	private static final long serialVersionUID = -2861409457218390017L;
+	private String message;
+
+	public FipeVersionNotFoundException(String message) {
+		this.message = message;
+	}
+}
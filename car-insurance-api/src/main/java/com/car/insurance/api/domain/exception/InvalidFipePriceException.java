@@ -0,0 +1,16 @@
+package com.car.insurance.api.domain.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class InvalidFipePriceException extends CustomBusinessException {
+
+	private static final long serialVersionUID = -6023915647210385174L;
+	private String message;
+
+	public InvalidFipePriceException(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,16 @@
+package com.car.insurance.api.domain.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class QuoteTimeoutException extends CustomBusinessException {
+
+	private static final long serialVersionUID = 2901637544317865083L;
+	private String message;
+
+	public QuoteTimeoutException(String message) {
+		this.message = message;
+	}
+}
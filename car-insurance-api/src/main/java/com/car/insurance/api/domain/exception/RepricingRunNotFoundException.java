@@ -0,0 +1,16 @@
+package com.car.insurance.api.domain.exception;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class RepricingRunNotFoundException extends CustomBusinessException {
+
+	private static final long serialVersionUID = 3915602247713480561L;
+	private String message;
+
+	public RepricingRunNotFoundException(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,47 @@
+package com.car.insurance.api.domain.listener;
+
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.service.ClaimRiskIndex;
+
+public class ClaimIndexListener {
+
+	@Autowired
+	private ObjectProvider<ClaimRiskIndex> claimRiskIndex;
+
+	@PostLoad
+	public void onLoad(Claim claim) {
+		snapshot(claim);
+	}
+
+	@PostPersist
+	public void onPersist(Claim claim) {
+		claimRiskIndex.ifAvailable(index -> index.claimSaved(claim));
+		snapshot(claim);
+	}
+
+	@PostUpdate
+	public void onUpdate(Claim claim) {
+		Integer previousDriverId = claim.getLoadedDriverId();
+		Integer previousCarId = claim.getLoadedCarId();
+		claimRiskIndex.ifAvailable(index -> index.claimUpdated(claim, previousDriverId, previousCarId));
+		snapshot(claim);
+	}
+
+	@PostRemove
+	public void onRemove(Claim claim) {
+		claimRiskIndex.ifAvailable(index -> index.claimRemoved(claim));
+	}
+
+	private void snapshot(Claim claim) {
+		claim.setLoadedDriverId(claim.getDriver() == null ? null : claim.getDriver().getId());
+		claim.setLoadedCarId(claim.getCar() == null ? null : claim.getCar().getId());
+	}
+}
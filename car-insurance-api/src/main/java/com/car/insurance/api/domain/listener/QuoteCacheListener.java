@@ -0,0 +1,120 @@
+package com.car.insurance.api.domain.listener;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.service.QuoteCache;
+
+/**
+ * Invalida o cache de cotações quando um Car, CarDriver ou Claim muda. A
+ * invalidação é repetida uma vez ao fim da transação, para todos os ids
+ * alterados nela, para descartar cotações calculadas por outras requisições
+ * enquanto a alteração não estava confirmada. Carro recém-criado não tem
+ * cotação em cache e não invalida nada. Em Claim este listener precisa rodar
+ * antes do ClaimIndexListener, que atualiza os ids carregados.
+ */
+public class QuoteCacheListener {
+
+	@Autowired
+	private ObjectProvider<QuoteCache> quoteCache;
+
+	@PostPersist
+	public void onPersist(Object entity) {
+		if (!(entity instanceof Car))
+			onChange(entity);
+	}
+
+	@PostUpdate
+	@PostRemove
+	public void onChange(Object entity) {
+		QuoteCache cache = quoteCache.getIfAvailable();
+		if (cache == null)
+			return;
+
+		PendingInvalidations pending = pendingInvalidations(cache);
+		if (entity instanceof Claim) {
+			Claim claim = (Claim) entity;
+			Integer driverId = claim.getDriver() == null ? null : claim.getDriver().getId();
+			Integer carId = claim.getCar() == null ? null : claim.getCar().getId();
+			claimChanged(cache, pending, driverId, carId);
+			// sinistro transferido: o condutor e o carro anteriores também perdem o agravo
+			Integer previousDriverId = Objects.equals(claim.getLoadedDriverId(), driverId) ? null
+					: claim.getLoadedDriverId();
+			Integer previousCarId = Objects.equals(claim.getLoadedCarId(), carId) ? null : claim.getLoadedCarId();
+			if (previousDriverId != null || previousCarId != null)
+				claimChanged(cache, pending, previousDriverId, previousCarId);
+			return;
+		}
+
+		Integer carId = entity instanceof CarDriver
+				? (((CarDriver) entity).getCar() == null ? null : ((CarDriver) entity).getCar().getId())
+				: ((Car) entity).getId();
+		cache.invalidateCar(carId);
+		if (pending != null)
+			add(pending.cars, carId);
+	}
+
+	private void claimChanged(QuoteCache cache, PendingInvalidations pending, Integer driverId, Integer carId) {
+		cache.claimChanged(driverId, carId);
+		if (pending != null) {
+			add(pending.claimDrivers, driverId);
+			add(pending.claimCars, carId);
+		}
+	}
+
+	/**
+	 * Ids alterados na transação corrente, registrados uma única vez como
+	 * sincronização; null fora de transação.
+	 */
+	private PendingInvalidations pendingInvalidations(QuoteCache cache) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			return null;
+
+		PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager
+				.getResource(PendingInvalidations.class);
+		if (pending == null) {
+			pending = new PendingInvalidations(cache);
+			TransactionSynchronizationManager.bindResource(PendingInvalidations.class, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		return pending;
+	}
+
+	private static void add(Set<Integer> ids, Integer id) {
+		if (id != null)
+			ids.add(id);
+	}
+
+	private static final class PendingInvalidations implements TransactionSynchronization {
+
+		private final QuoteCache cache;
+		private final Set<Integer> cars = new HashSet<>();
+		private final Set<Integer> claimCars = new HashSet<>();
+		private final Set<Integer> claimDrivers = new HashSet<>();
+
+		private PendingInvalidations(QuoteCache cache) {
+			this.cache = cache;
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(PendingInvalidations.class);
+			cars.forEach(cache::invalidateCar);
+			claimCars.forEach(carId -> cache.claimChanged(null, carId));
+			claimDrivers.forEach(driverId -> cache.claimChanged(driverId, null));
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package com.car.insurance.api.domain.pricing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import com.car.insurance.api.domain.dto.FipePriceDto;
+
+/**
+ * Tabela FIPE de um mês de referência gravada em arquivo binário e mapeada em memória. O arquivo
+ * é uma tabela hash de endereçamento aberto com slots de tamanho fixo (hash de 64 bits da chave
+ * fabricante/modelo/ano + preço), então a consulta é feita direto no arquivo mapeado, sem objetos
+ * no heap por item do catálogo. Chaves repetidas ficam com o último preço gravado.
+ *
+ * Como o slot guarda só o hash, a gravação confere que duas chaves diferentes do catálogo nunca
+ * caem no mesmo hash e recusa a tabela se isso acontecer. Uma chave fora do catálogo ainda pode
+ * coincidir com o hash de outra (chance da ordem de itens/2^64) e receber o preço dela.
+ *
+ * A tabela comporta no máximo {@link #MAX_ENTRIES} itens: o arquivo tem até 2^26 slots e a
+ * ocupação é mantida em no máximo metade deles para as sondagens continuarem curtas.
+ */
+public final class FipeTable {
+
+	private static final int MAGIC = 0x46495045;
+	private static final int FORMAT_VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int SLOT_SIZE = 16;
+	private static final long EMPTY = 0L;
+	private static final int MAX_SLOTS = 1 << 26;
+
+	public static final int MAX_ENTRIES = MAX_SLOTS / 2;
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final String referenceMonth;
+	private final ByteBuffer buffer;
+	private final int mask;
+	private final int entries;
+
+	private FipeTable(String referenceMonth, ByteBuffer buffer) {
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION)
+			throw new IllegalStateException("Arquivo da tabela FIPE inválido para " + referenceMonth);
+		this.referenceMonth = referenceMonth;
+		this.buffer = buffer;
+		this.mask = buffer.getInt(8) - 1;
+		this.entries = buffer.getInt(12);
+	}
+
+	public static FipeTable open(String referenceMonth, Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			return new FipeTable(referenceMonth, mapped.order(ByteOrder.LITTLE_ENDIAN));
+		}
+	}
+
+	/**
+	 * Grava a tabela em um arquivo temporário e só então o move para o destino, para nunca mapear
+	 * um arquivo pela metade. Falha com IllegalStateException se o catálogo passar de
+	 * {@link #MAX_ENTRIES} itens ou se duas chaves diferentes tiverem o mesmo hash.
+	 */
+	public static void write(Path file, long count, Iterator<FipePriceDto> prices) throws IOException {
+		if (count > MAX_ENTRIES)
+			throw new IllegalStateException(
+					String.format("A tabela FIPE comporta no máximo %d itens, recebeu %d", MAX_ENTRIES, count));
+		int slots = Integer.highestOneBit((int) Math.max(2, Math.min(count * 2, MAX_SLOTS)) - 1) << 1;
+		long size = HEADER_SIZE + (long) slots * SLOT_SIZE;
+		int slotMask = slots - 1;
+		int written = 0;
+		// chave normalizada de cada hash gravado, só durante a gravação
+		Map<Long, String> keys = new HashMap<>();
+
+		Files.createDirectories(file.getParent());
+		Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			mapped.order(ByteOrder.LITTLE_ENDIAN);
+			while (prices.hasNext()) {
+				FipePriceDto price = prices.next();
+				if (price.getPrice() == null)
+					throw new IllegalStateException("Item da tabela FIPE sem preço: " + price.getModel());
+				String key = key(price.getManufacturer(), price.getModel(), price.getReleaseYear());
+				long hash = hash(key);
+				String previous = keys.putIfAbsent(hash, key);
+				if (previous != null && !previous.equals(key))
+					throw new IllegalStateException(String.format(
+							"Chaves da tabela FIPE com o mesmo hash: '%s' e '%s'", previous, key));
+				int slot = spread(hash) & slotMask;
+				long stored;
+				while ((stored = mapped.getLong(offset(slot))) != EMPTY && stored != hash)
+					slot = (slot + 1) & slotMask;
+				if (stored == EMPTY) {
+					if (++written > slots / 2)
+						throw new IllegalStateException("A tabela FIPE tem mais itens do que o informado");
+					mapped.putLong(offset(slot), hash);
+				}
+				mapped.putFloat(offset(slot) + 8, price.getPrice());
+			}
+			mapped.putInt(0, MAGIC);
+			mapped.putInt(4, FORMAT_VERSION);
+			mapped.putInt(8, slots);
+			mapped.putInt(12, written);
+			mapped.force();
+		}
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Preço do carro no mês de referência, ou null quando o carro não está no catálogo.
+	 */
+	public Float price(String manufacturer, String model, String releaseYear) {
+		long hash = hash(key(manufacturer, model, releaseYear));
+		int slot = spread(hash) & mask;
+		long stored;
+		while ((stored = buffer.getLong(offset(slot))) != EMPTY) {
+			if (stored == hash)
+				return buffer.getFloat(offset(slot) + 8);
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	public String getReferenceMonth() {
+		return referenceMonth;
+	}
+
+	public int getEntries() {
+		return entries;
+	}
+
+	private static int offset(int slot) {
+		return HEADER_SIZE + slot * SLOT_SIZE;
+	}
+
+	private static int spread(long hash) {
+		return (int) (hash ^ (hash >>> 32));
+	}
+
+	// campos normalizados separados por 0x1f, que não aparece nos nomes
+	static String key(String manufacturer, String model, String releaseYear) {
+		return normalize(manufacturer) + '\u001f' + normalize(model) + '\u001f' + normalize(releaseYear) + '\u001f';
+	}
+
+	private static String normalize(String value) {
+		return value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+	}
+
+	// FNV-1a sobre a chave normalizada; 0 é reservado para slot vazio
+	static long hash(String key) {
+		long hash = FNV_OFFSET;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash == EMPTY ? 1L : hash;
+	}
+}
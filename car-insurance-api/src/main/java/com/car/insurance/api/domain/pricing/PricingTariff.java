@@ -0,0 +1,102 @@
+package com.car.insurance.api.domain.pricing;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.car.insurance.api.domain.PricingRule;
+import com.car.insurance.api.domain.PricingRuleType;
+
+/**
+ * Tabela de tarifas compilada a partir das regras de precificação. Todas as
+ * combinações de idade do condutor principal e sinistros são pré-calculadas,
+ * então a avaliação é uma única leitura de array, sem alocação.
+ */
+public final class PricingTariff {
+
+	public static final int MAX_AGE = 150;
+
+	private static final double DEFAULT_BASE_RATE = 0.06;
+	private static final double DEFAULT_RISK_RATE = 0.02;
+	private static final int YOUNG_DRIVER_MIN_AGE = 18;
+	private static final int YOUNG_DRIVER_MAX_AGE = 25;
+
+	private final long version;
+	private final double[] rates;
+
+	private PricingTariff(long version, double[] rates) {
+		this.version = version;
+		this.rates = rates;
+	}
+
+	public static PricingTariff defaults() {
+		double[] ageIncrements = new double[MAX_AGE + 1];
+		Arrays.fill(ageIncrements, YOUNG_DRIVER_MIN_AGE, YOUNG_DRIVER_MAX_AGE + 1, DEFAULT_RISK_RATE);
+		return new PricingTariff(0, compileRates(DEFAULT_BASE_RATE, ageIncrements, DEFAULT_RISK_RATE, DEFAULT_RISK_RATE));
+	}
+
+	public static PricingTariff compile(List<PricingRule> rules, long version) {
+		double baseRate = 0;
+		double driverClaims = 0;
+		double carClaims = 0;
+		double[] ageIncrements = new double[MAX_AGE + 1];
+
+		for (PricingRule rule : rules) {
+			if (rule.getType() == null || rule.getRate() == null)
+				continue;
+
+			switch (rule.getType()) {
+			case BASE_RATE:
+				baseRate += rule.getRate();
+				break;
+			case MAIN_DRIVER_AGE:
+				int from = clampAge(rule.getMinAge() == null ? 0 : rule.getMinAge());
+				int to = clampAge(rule.getMaxAge() == null ? MAX_AGE : rule.getMaxAge());
+				for (int age = from; age <= to; age++)
+					ageIncrements[age] += rule.getRate();
+				break;
+			case DRIVER_CLAIMS:
+				driverClaims += rule.getRate();
+				break;
+			case CAR_CLAIMS:
+				carClaims += rule.getRate();
+				break;
+			}
+		}
+		return new PricingTariff(version, compileRates(baseRate, ageIncrements, driverClaims, carClaims));
+	}
+
+	private static double[] compileRates(double baseRate, double[] ageIncrements, double driverClaims,
+			double carClaims) {
+		double[] rates = new double[(MAX_AGE + 1) * 4];
+		for (int age = 0; age <= MAX_AGE; age++) {
+			rates[index(age, false, false)] = baseRate + ageIncrements[age];
+			rates[index(age, false, true)] = baseRate + (ageIncrements[age] + carClaims);
+			rates[index(age, true, false)] = baseRate + (ageIncrements[age] + driverClaims);
+			rates[index(age, true, true)] = baseRate + (ageIncrements[age] + driverClaims + carClaims);
+		}
+		return rates;
+	}
+
+	private static int index(int age, boolean driversHaveClaims, boolean carHasClaims) {
+		return (age << 2) | (driversHaveClaims ? 2 : 0) | (carHasClaims ? 1 : 0);
+	}
+
+	private static int clampAge(int age) {
+		return Math.max(0, Math.min(MAX_AGE, age));
+	}
+
+	/**
+	 * Taxa aplicada sobre o valor FIPE.
+	 */
+	public double rate(int mainDriverAge, boolean driversHaveClaims, boolean carHasClaims) {
+		return rates[index(clampAge(mainDriverAge), driversHaveClaims, carHasClaims)];
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public boolean sameRatesAs(PricingTariff other) {
+		return other != null && Arrays.equals(rates, other.rates);
+	}
+}
@@ -0,0 +1,21 @@
+package com.car.insurance.api.domain.pricing;
+
+import lombok.Value;
+
+/**
+ * Chave do cache de cotações: carro, valor FIPE, condutores vinculados (id do
+ * vínculo, id do condutor, data de nascimento e se é o principal), versão do
+ * carro, versão dos sinistros envolvidos, versão da tarifa e o dia da cotação
+ * (a idade do condutor muda com a data).
+ */
+@Value
+public class QuoteKey {
+
+	Integer carId;
+	Float fipeValue;
+	long[] drivers;
+	long carVersion;
+	long claimsVersion;
+	long tariffVersion;
+	long quoteDay;
+}
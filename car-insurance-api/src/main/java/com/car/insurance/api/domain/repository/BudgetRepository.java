@@ -1,9 +1,50 @@
 package com.car.insurance.api.domain.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.car.insurance.api.domain.Budget;
+import com.car.insurance.api.domain.dto.BudgetCarRow;
+import com.car.insurance.api.domain.dto.BudgetDriverRow;
+import com.car.insurance.api.domain.dto.BudgetExportDto;
+import com.car.insurance.api.domain.dto.BudgetSummaryDto;
 
 public interface BudgetRepository extends JpaRepository<Budget, Integer> {
 
+	@Query("select new com.car.insurance.api.domain.dto.BudgetDriverRow(b.amount, c.model, c.manufacturer, c.releaseYear, "
+			+ "cd.id, d.document, d.birthdate, cd.mainDriver) "
+			+ "from Budget b join b.car c left join c.carDriver cd left join cd.driver d "
+			+ "where b.id = :id order by cd.id")
+	List<BudgetDriverRow> findResponseRowsById(@Param("id") Integer id);
+
+	@Query("select new com.car.insurance.api.domain.dto.BudgetSummaryDto(b.id, c.id, c.model, b.amount) "
+			+ "from Budget b join b.car c "
+			+ "where b.customer.id = :customerId and b.id > :after order by b.id")
+	List<BudgetSummaryDto> findPageByCustomerId(@Param("customerId") Integer customerId, @Param("after") Integer after,
+			Pageable pageable);
+
+	@QueryHints({ @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+			@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true") })
+	@Query("select new com.car.insurance.api.domain.dto.BudgetExportDto(b.id, cu.id, c.id, c.model, b.amount) "
+			+ "from Budget b join b.car c join b.customer cu order by b.id")
+	Stream<BudgetExportDto> streamAllForExport();
+
+	@Query("select min(b.id) from Budget b")
+	Integer findMinId();
+
+	@Query("select max(b.id) from Budget b")
+	Integer findMaxId();
+
+	@Query("select new com.car.insurance.api.domain.dto.BudgetCarRow(b.id, b.car.id) from Budget b "
+			+ "where b.id > :after and b.id <= :upper order by b.id")
+	List<BudgetCarRow> findRepricingChunk(@Param("after") Integer after, @Param("upper") Integer upper,
+			Pageable pageable);
 }
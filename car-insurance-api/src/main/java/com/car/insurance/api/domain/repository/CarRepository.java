@@ -1,9 +1,21 @@
 package com.car.insurance.api.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.car.insurance.api.domain.Car;
 
 public interface CarRepository extends JpaRepository<Car, Integer> {
 
+	@Query("select distinct c from Car c left join fetch c.carDriver cd left join fetch cd.driver where c.id in :ids")
+	List<Car> findAllWithDriversByIdIn(@Param("ids") Collection<Integer> ids);
+
+	@EntityGraph(attributePaths = { "carDriver", "carDriver.driver" })
+	Optional<Car> findWithDriversById(Integer id);
 }
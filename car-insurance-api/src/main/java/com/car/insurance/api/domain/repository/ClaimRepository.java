@@ -1,8 +1,11 @@
 package com.car.insurance.api.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.car.insurance.api.domain.Claim;
 
@@ -10,4 +13,20 @@ public interface ClaimRepository extends JpaRepository<Claim, Integer> {
 
 	List<Claim> findByCarId(Integer carId);
 	List<Claim> findByDriverIdIn(List<Integer> ids);
+
+	@Query("select distinct c.driver.id from Claim c where c.driver.id in :ids")
+	List<Integer> findDriverIdsWithClaims(@Param("ids") Collection<Integer> ids);
+
+	@Query("select distinct c.car.id from Claim c where c.car.id in :ids")
+	List<Integer> findCarIdsWithClaims(@Param("ids") Collection<Integer> ids);
+
+	@Query("select distinct c.driver.id from Claim c where c.driver is not null")
+	List<Integer> findAllDriverIdsWithClaims();
+
+	@Query("select distinct c.car.id from Claim c where c.car is not null")
+	List<Integer> findAllCarIdsWithClaims();
+
+	boolean existsByDriverId(Integer driverId);
+
+	boolean existsByCarId(Integer carId);
 }
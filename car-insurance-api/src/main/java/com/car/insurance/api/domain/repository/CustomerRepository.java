@@ -1,9 +1,16 @@
 package com.car.insurance.api.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.car.insurance.api.domain.Customer;
 
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
 
+	@Query("select c from Customer c left join fetch c.driver where c.id in :ids")
+	List<Customer> findAllWithDriverByIdIn(@Param("ids") Collection<Integer> ids);
 }
@@ -1,9 +1,13 @@
 package com.car.insurance.api.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.car.insurance.api.domain.Driver;
 
 public interface DriverRepository extends JpaRepository<Driver, Integer> {
 
+	List<Driver> findByDocumentIn(Collection<String> documents);
 }
@@ -0,0 +1,29 @@
+package com.car.insurance.api.domain.repository;
+
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.car.insurance.api.domain.FipePrice;
+import com.car.insurance.api.domain.dto.FipePriceDto;
+
+public interface FipePriceRepository extends JpaRepository<FipePrice, Integer> {
+
+	long countByReferenceMonth(String referenceMonth);
+
+	@QueryHints({ @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+			@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true") })
+	@Query("select new com.car.insurance.api.domain.dto.FipePriceDto(f.manufacturer, f.model, f.releaseYear, f.price) "
+			+ "from FipePrice f where f.referenceMonth = :referenceMonth")
+	Stream<FipePriceDto> streamByReferenceMonth(@Param("referenceMonth") String referenceMonth);
+
+	@Modifying
+	@Query("delete from FipePrice f where f.referenceMonth = :referenceMonth")
+	int deleteByReferenceMonth(@Param("referenceMonth") String referenceMonth);
+}
@@ -0,0 +1,18 @@
+package com.car.insurance.api.domain.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.car.insurance.api.domain.FipeVersion;
+
+public interface FipeVersionRepository extends JpaRepository<FipeVersion, String> {
+
+	Optional<FipeVersion> findFirstByActiveTrue();
+
+	@Modifying
+	@Query("update FipeVersion v set v.active = false where v.active = true")
+	int deactivateAll();
+}
@@ -0,0 +1,12 @@
+package com.car.insurance.api.domain.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.car.insurance.api.domain.PricingRule;
+
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Integer> {
+
+	List<PricingRule> findByActiveTrue();
+}
@@ -0,0 +1,14 @@
+package com.car.insurance.api.domain.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.car.insurance.api.domain.RepricingCheckpoint;
+
+public interface RepricingCheckpointRepository extends JpaRepository<RepricingCheckpoint, Integer> {
+
+	List<RepricingCheckpoint> findByRunIdOrderByWorker(String runId);
+
+	List<RepricingCheckpoint> findByFinishedFalse();
+}
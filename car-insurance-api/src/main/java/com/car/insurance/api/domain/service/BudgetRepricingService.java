@@ -0,0 +1,11 @@
+package com.car.insurance.api.domain.service;
+
+import com.car.insurance.api.domain.dto.RepricingStatusDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+
+public interface BudgetRepricingService {
+
+	RepricingStatusDto start();
+
+	RepricingStatusDto getStatus(String runId) throws CustomBusinessException;
+}
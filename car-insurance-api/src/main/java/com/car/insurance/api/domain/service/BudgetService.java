@@ -1,5 +1,13 @@
 package com.car.insurance.api.domain.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.car.insurance.api.domain.dto.BudgetBatchItemDto;
+import com.car.insurance.api.domain.dto.BudgetPageDto;
 import com.car.insurance.api.domain.dto.BudgetRequestDTO;
 import com.car.insurance.api.domain.dto.BudgetResponseDto;
 import com.car.insurance.api.domain.exception.BudgetNotFoundException;
@@ -9,9 +17,21 @@ public interface BudgetService {
 
 	void createBudget(BudgetRequestDTO dto) throws CustomBusinessException;
 
+	List<BudgetBatchItemDto> createBudgets(List<BudgetRequestDTO> dtos) throws CustomBusinessException;
+
 	void updateBudget(BudgetRequestDTO dto) throws CustomBusinessException, BudgetNotFoundException;
 
 	BudgetResponseDto getBudget(Integer id) throws CustomBusinessException;
 
+	BudgetPageDto listBudgets(Integer customerId, Integer after, Integer size);
+
+	void exportBudgets(OutputStream out) throws IOException;
+
+	/**
+	 * Calcula o valor atual de cada carro com uma única consulta de sinistros para o conjunto.
+	 * Carros inexistentes ou sem condutor principal ficam fora do mapa.
+	 */
+	Map<Integer, Double> priceCars(Collection<Integer> carIds);
+
 	void deleteBudget(Integer id) throws CustomBusinessException;
 }
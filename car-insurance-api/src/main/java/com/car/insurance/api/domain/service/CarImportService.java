@@ -0,0 +1,14 @@
+package com.car.insurance.api.domain.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+import com.car.insurance.api.domain.dto.CarImportReportDto;
+
+public interface CarImportService {
+
+	CarImportReportDto importCars(Reader reader) throws IOException;
+
+	List<CarImportReportDto> getImports();
+}
@@ -1,9 +1,14 @@
 package com.car.insurance.api.domain.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import com.car.insurance.api.domain.Car;
 import com.car.insurance.api.domain.exception.CustomBusinessException;
 
 public interface CarService {
 
 	Car getCarById(Integer id) throws CustomBusinessException;
+
+	Map<Integer, Car> getCarsByIds(Collection<Integer> ids);
 }
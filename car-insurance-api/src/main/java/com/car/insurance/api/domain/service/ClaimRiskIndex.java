@@ -0,0 +1,33 @@
+package com.car.insurance.api.domain.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.car.insurance.api.domain.Claim;
+
+public interface ClaimRiskIndex {
+
+	boolean isReady();
+
+	boolean anyDriverHasClaims(Collection<Integer> driverIds);
+
+	boolean carHasClaims(Integer carId);
+
+	Set<Integer> driversWithClaims(Collection<Integer> driverIds);
+
+	Set<Integer> carsWithClaims(Collection<Integer> carIds);
+
+	void claimSaved(Claim claim);
+
+	/**
+	 * Sinistro alterado: além de marcar o condutor e o carro atuais, os anteriores ficam incertos,
+	 * pois podem não ter mais nenhum sinistro.
+	 */
+	void claimUpdated(Claim claim, Integer previousDriverId, Integer previousCarId);
+
+	void claimRemoved(Claim claim);
+
+	void rebuild();
+
+	boolean checkConsistency();
+}
@@ -1,6 +1,8 @@
 package com.car.insurance.api.domain.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import com.car.insurance.api.domain.Claim;
 
@@ -8,5 +10,13 @@ public interface ClaimService {
 
 	List<Claim> claimByCarId(Integer carId);
 	List<Claim> claimByDriverIdIn(List<Integer> ids);
+
+	boolean isIndexed();
+
+	boolean hasClaimsForDrivers(Collection<Integer> driverIds);
+	boolean hasClaimsForCar(Integer carId);
+
+	Set<Integer> driverIdsWithClaims(Collection<Integer> driverIds);
+	Set<Integer> carIdsWithClaims(Collection<Integer> carIds);
 	
 }
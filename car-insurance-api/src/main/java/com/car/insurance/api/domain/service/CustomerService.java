@@ -1,9 +1,14 @@
 package com.car.insurance.api.domain.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import com.car.insurance.api.domain.Customer;
 import com.car.insurance.api.domain.exception.CustomBusinessException;
 
 public interface CustomerService {
 
 	Customer getCustomerById(Integer id) throws CustomBusinessException;
+
+	Map<Integer, Customer> getCustomersByIds(Collection<Integer> ids);
 }
@@ -0,0 +1,34 @@
+package com.car.insurance.api.domain.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.dto.FipePriceDto;
+import com.car.insurance.api.domain.dto.FipeVersionDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+
+public interface FipePriceService {
+
+	/**
+	 * Valor FIPE do carro na versão ativa da tabela, ou o fipeValue do próprio carro quando não há
+	 * tabela ativa ou o carro não está no catálogo.
+	 */
+	Float priceFor(Car car);
+
+	/**
+	 * Substitui os preços do mês. Recusa o lote inteiro se algum item não tiver fabricante, modelo,
+	 * ano ou preço positivo, ou se o lote passar do tamanho máximo da tabela FIPE.
+	 */
+	FipeVersionDto importPrices(String referenceMonth, List<FipePriceDto> prices) throws CustomBusinessException;
+
+	FipeVersionDto activate(String referenceMonth) throws CustomBusinessException, IOException;
+
+	FipeVersionDto getActiveVersion() throws CustomBusinessException;
+
+	/**
+	 * Carrega a versão ativa no banco se ela for diferente da tabela em uso, como depois de uma
+	 * ativação feita por outra instância.
+	 */
+	void refreshActiveVersion();
+}
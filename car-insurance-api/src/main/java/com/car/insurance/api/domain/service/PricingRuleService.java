@@ -0,0 +1,10 @@
+package com.car.insurance.api.domain.service;
+
+import com.car.insurance.api.domain.pricing.PricingTariff;
+
+public interface PricingRuleService {
+
+	PricingTariff currentTariff();
+
+	PricingTariff reload();
+}
@@ -0,0 +1,17 @@
+package com.car.insurance.api.domain.service;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.pricing.QuoteKey;
+
+public interface QuoteCache {
+
+	QuoteKey keyFor(Car car, Float fipeValue, long tariffVersion);
+
+	Double get(QuoteKey key);
+
+	void put(QuoteKey key, double amount);
+
+	void invalidateCar(Integer carId);
+
+	void claimChanged(Integer driverId, Integer carId);
+}
@@ -0,0 +1,214 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.car.insurance.api.domain.RepricingCheckpoint;
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.dto.BudgetCarRow;
+import com.car.insurance.api.domain.dto.RepricingPartitionDto;
+import com.car.insurance.api.domain.dto.RepricingStatusDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.exception.RepricingRunNotFoundException;
+import com.car.insurance.api.domain.repository.BudgetRepository;
+import com.car.insurance.api.domain.repository.RepricingCheckpointRepository;
+import com.car.insurance.api.domain.service.BudgetRepricingService;
+import com.car.insurance.api.domain.service.BudgetService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalcula o valor de todos os orçamentos. A tabela budget é dividida em faixas de id, uma por
+ * worker, e cada worker percorre a sua faixa em blocos ordenados por id. Cada bloco é precificado
+ * com uma consulta de sinistros para todos os carros, gravado com update em lote e tem a posição
+ * salva no checkpoint na mesma transação, então uma execução interrompida continua de onde parou.
+ */
+@Slf4j
+@Service
+public class BudgetRepricingServiceImpl implements BudgetRepricingService {
+
+	private static final String UPDATE_AMOUNT = "update budget set amount = ? where id = ?";
+
+	private static final String UPDATE_CHECKPOINT = "update repricing_checkpoint set last_budget_id = ?, updated_at = ? where id = ?";
+
+	private static final String FINISH_CHECKPOINT = "update repricing_checkpoint set finished = true, updated_at = ? where id = ?";
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private RepricingCheckpointRepository checkpointRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private BudgetProperties properties;
+
+	private final AtomicReference<RepricingRun> current = new AtomicReference<>();
+
+	@Override
+	public synchronized RepricingStatusDto start() {
+		RepricingRun running = current.get();
+		if (running != null && running.isRunning())
+			return toStatus(running, checkpointRepository.findByRunIdOrderByWorker(running.getId()));
+
+		List<RepricingCheckpoint> checkpoints = checkpointRepository.findByFinishedFalse();
+		String runId;
+		if (checkpoints.isEmpty()) {
+			runId = UUID.randomUUID().toString();
+			checkpoints = checkpointRepository.saveAll(partition(runId));
+		} else {
+			runId = checkpoints.get(0).getRunId();
+			String resumedRunId = runId;
+			checkpoints = checkpoints.stream().filter(c -> c.getRunId().equals(resumedRunId)).collect(Collectors.toList());
+			log.info("Retomando reprecificação {} com {} faixas pendentes", runId, checkpoints.size());
+		}
+
+		RepricingRun run = new RepricingRun(runId);
+		current.set(run);
+		launch(run, checkpoints);
+		return toStatus(run, checkpointRepository.findByRunIdOrderByWorker(runId));
+	}
+
+	@Override
+	public RepricingStatusDto getStatus(String runId) throws CustomBusinessException {
+		List<RepricingCheckpoint> checkpoints = checkpointRepository.findByRunIdOrderByWorker(runId);
+		if (checkpoints.isEmpty())
+			throw new RepricingRunNotFoundException("Reprecificação não encontrada");
+
+		RepricingRun run = current.get();
+		if (run != null && run.getId().equals(runId))
+			return toStatus(run, checkpoints);
+
+		// execução de outra instância ou anterior a um restart: só há o que foi salvo no checkpoint
+		boolean finished = checkpoints.stream().allMatch(RepricingCheckpoint::getFinished);
+		return RepricingStatusDto.builder()
+				.runId(runId)
+				.status((finished ? RepricingRun.Status.COMPLETED : RepricingRun.Status.INTERRUPTED).name())
+				.partitions(toPartitions(checkpoints))
+				.build();
+	}
+
+	private List<RepricingCheckpoint> partition(String runId) {
+		Integer min = budgetRepository.findMinId();
+		Integer max = budgetRepository.findMaxId();
+		List<RepricingCheckpoint> checkpoints = new ArrayList<>();
+		if (min == null)
+			return checkpoints;
+
+		long lower = min - 1L;
+		long span = max - lower;
+		int workers = (int) Math.max(1, Math.min(properties.getRepricingWorkers(), span));
+		LocalDateTime now = LocalDateTime.now();
+		for (int worker = 0; worker < workers; worker++) {
+			int from = (int) (lower + span * worker / workers);
+			int to = (int) (lower + span * (worker + 1) / workers);
+			checkpoints.add(new RepricingCheckpoint(null, runId, worker, to, from, false, now));
+		}
+		return checkpoints;
+	}
+
+	private void launch(RepricingRun run, List<RepricingCheckpoint> checkpoints) {
+		if (checkpoints.isEmpty()) {
+			run.finish(RepricingRun.Status.COMPLETED, null);
+			return;
+		}
+
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService workers = Executors.newFixedThreadPool(checkpoints.size(),
+				runnable -> new Thread(runnable, "budget-repricing-" + threadCount.incrementAndGet()));
+		CompletableFuture<?>[] partitions = checkpoints.stream()
+				.map(checkpoint -> CompletableFuture.runAsync(() -> reprice(run, checkpoint), workers))
+				.toArray(CompletableFuture[]::new);
+
+		CompletableFuture.allOf(partitions).whenComplete((result, error) -> {
+			workers.shutdown();
+			if (error == null) {
+				run.finish(RepricingRun.Status.COMPLETED, null);
+				log.info("Reprecificação {} concluída: {} orçamentos atualizados, {} ignorados", run.getId(),
+						run.getRepriced().get(), run.getSkipped().get());
+			} else {
+				run.finish(RepricingRun.Status.FAILED, error.getMessage());
+				log.error("Reprecificação {} interrompida, pode ser retomada pelo checkpoint", run.getId(), error);
+			}
+		});
+	}
+
+	private void reprice(RepricingRun run, RepricingCheckpoint checkpoint) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		PageRequest chunk = PageRequest.of(0, properties.getRepricingChunkSize());
+		Integer after = checkpoint.getLastBudgetId();
+
+		List<BudgetCarRow> rows;
+		while (!(rows = budgetRepository.findRepricingChunk(after, checkpoint.getUpperBound(), chunk)).isEmpty()) {
+			Integer last = rows.get(rows.size() - 1).getBudgetId();
+			List<BudgetCarRow> budgets = rows;
+			int updated = transaction.execute(status -> {
+				Set<Integer> carIds = budgets.stream().map(BudgetCarRow::getCarId).collect(Collectors.toSet());
+				Map<Integer, Double> amounts = budgetService.priceCars(carIds);
+
+				List<Object[]> updates = new ArrayList<>(budgets.size());
+				for (BudgetCarRow budget : budgets) {
+					Double amount = amounts.get(budget.getCarId());
+					if (amount != null)
+						updates.add(new Object[] { amount, budget.getBudgetId() });
+				}
+				jdbcTemplate.batchUpdate(UPDATE_AMOUNT, updates);
+				jdbcTemplate.update(UPDATE_CHECKPOINT, last, Timestamp.valueOf(LocalDateTime.now()), checkpoint.getId());
+				return updates.size();
+			});
+			run.getRepriced().addAndGet(updated);
+			run.getSkipped().addAndGet(rows.size() - updated);
+			after = last;
+		}
+		jdbcTemplate.update(FINISH_CHECKPOINT, Timestamp.valueOf(LocalDateTime.now()), checkpoint.getId());
+	}
+
+	private RepricingStatusDto toStatus(RepricingRun run, List<RepricingCheckpoint> checkpoints) {
+		return RepricingStatusDto.builder()
+				.runId(run.getId())
+				.status(run.getStatus().name())
+				.startedAt(run.getStartedAt())
+				.finishedAt(run.getFinishedAt())
+				.repriced(run.getRepriced().get())
+				.skipped(run.getSkipped().get())
+				.budgetsPerSecond(run.budgetsPerSecond())
+				.message(run.getMessage())
+				.partitions(toPartitions(checkpoints))
+				.build();
+	}
+
+	private List<RepricingPartitionDto> toPartitions(List<RepricingCheckpoint> checkpoints) {
+		return checkpoints.stream().map(checkpoint -> RepricingPartitionDto.builder()
+				.worker(checkpoint.getWorker())
+				.lastBudgetId(checkpoint.getLastBudgetId())
+				.upperBound(checkpoint.getUpperBound())
+				.finished(checkpoint.getFinished())
+				.build()).collect(Collectors.toList());
+	}
+}
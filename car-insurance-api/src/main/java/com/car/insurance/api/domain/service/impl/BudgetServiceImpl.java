@@ -1,31 +1,61 @@
 package com.car.insurance.api.domain.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.time.Period;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.car.insurance.api.domain.Budget;
 import com.car.insurance.api.domain.Car;
 import com.car.insurance.api.domain.CarDriver;
 import com.car.insurance.api.domain.Customer;
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.dto.BudgetBatchItemDto;
+import com.car.insurance.api.domain.dto.BudgetDriverRow;
+import com.car.insurance.api.domain.dto.BudgetExportDto;
+import com.car.insurance.api.domain.dto.BudgetPageDto;
 import com.car.insurance.api.domain.dto.BudgetRequestDTO;
 import com.car.insurance.api.domain.dto.BudgetResponseDto;
+import com.car.insurance.api.domain.dto.BudgetSummaryDto;
 import com.car.insurance.api.domain.dto.CarDto;
 import com.car.insurance.api.domain.dto.DriverDto;
+import com.car.insurance.api.domain.exception.BudgetBatchTooLargeException;
 import com.car.insurance.api.domain.exception.BudgetNotFoundException;
+import com.car.insurance.api.domain.exception.CarNotFoundException;
 import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.exception.CustomerNotFoundException;
 import com.car.insurance.api.domain.exception.NoMainDriverRegisteredException;
+import com.car.insurance.api.domain.pricing.QuoteKey;
 import com.car.insurance.api.domain.repository.BudgetRepository;
 import com.car.insurance.api.domain.service.BudgetService;
 import com.car.insurance.api.domain.service.CarService;
 import com.car.insurance.api.domain.service.ClaimService;
 import com.car.insurance.api.domain.service.CustomerService;
+import com.car.insurance.api.domain.service.FipePriceService;
+import com.car.insurance.api.domain.service.PricingRuleService;
+import com.car.insurance.api.domain.service.QuoteCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 @Service
 public class BudgetServiceImpl implements BudgetService {
@@ -42,12 +72,45 @@ public class BudgetServiceImpl implements BudgetService {
 	@Autowired
 	private BudgetRepository budgetRepository;
 
+	@Autowired
+	private PricingRuleService pricingRuleService;
+
+	@Autowired
+	private FipePriceService fipePriceService;
+
+	@Autowired
+	private QuoteCache quoteCache;
+
+	@Autowired
+	private QuoteLookupExecutor lookupExecutor;
+
+	@Autowired
+	private BudgetProperties properties;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
 	@Override
 	public void createBudget(BudgetRequestDTO dto) throws CustomBusinessException {
-		Car car = carService.getCarById(dto.getCarId());
-		Customer customer = customerService.getCustomerById(dto.getCustomerId());
+		long deadline = lookupExecutor.deadline();
+		Car car;
+		Customer customer;
+		if (properties.isConcurrentLookups()) {
+			Future<Car> carLookup = lookupExecutor.submit(() -> carService.getCarById(dto.getCarId()));
+			Future<Customer> customerLookup = lookupExecutor
+					.submit(() -> customerService.getCustomerById(dto.getCustomerId()));
+			try {
+				car = lookupExecutor.await(carLookup, deadline);
+				customer = lookupExecutor.await(customerLookup, deadline);
+			} finally {
+				lookupExecutor.cancel(carLookup, customerLookup);
+			}
+		} else {
+			car = carService.getCarById(dto.getCarId());
+			customer = customerService.getCustomerById(dto.getCustomerId());
+		}
 
-		double amount = calculateAmount(car);
+		double amount = calculateAmount(car, deadline);
 		Budget budget = Budget.builder()
 				.amount(amount)
 				.car(car)
@@ -56,41 +119,159 @@ public class BudgetServiceImpl implements BudgetService {
 		budgetRepository.save(budget);
 	}
 
-	private double calculateAmount(Car car) throws NoMainDriverRegisteredException {
-		double baseFipeValue = 0.06;
-		int risks = evaluateRisks(car);
-		return car.getFipeValue() * (baseFipeValue + (0.02 * risks));
+	/**
+	 * Cota todos os pares carro/cliente do lote com um número fixo de consultas:
+	 * carros (com condutores), clientes e as duas verificações de sinistro são
+	 * resolvidos em conjunto, e os orçamentos válidos são gravados em um único
+	 * flush em lote. Falhas de negócio ficam no resultado do item correspondente.
+	 */
+	@Override
+	@Transactional
+	public List<BudgetBatchItemDto> createBudgets(List<BudgetRequestDTO> dtos) throws CustomBusinessException {
+		if (dtos.size() > properties.getBatchMaxSize())
+			throw new BudgetBatchTooLargeException(
+					String.format("O lote deve conter no máximo %d orçamentos.", properties.getBatchMaxSize()));
+
+		Map<Integer, Car> cars = carService.getCarsByIds(dtos.stream().map(BudgetRequestDTO::getCarId)
+				.filter(Objects::nonNull).collect(Collectors.toSet()));
+		Map<Integer, Customer> customers = customerService.getCustomersByIds(dtos.stream()
+				.map(BudgetRequestDTO::getCustomerId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+		Set<Integer> driverIds = cars.values().stream().flatMap(car -> getDriverIds(car).stream())
+				.collect(Collectors.toSet());
+		Set<Integer> driversWithClaims = claimService.driverIdsWithClaims(driverIds);
+		Set<Integer> carsWithClaims = claimService.carIdsWithClaims(cars.keySet());
+
+		BudgetBatchItemDto[] results = new BudgetBatchItemDto[dtos.size()];
+		Map<Integer, Budget> budgets = new LinkedHashMap<>();
+		for (int index = 0; index < dtos.size(); index++) {
+			BudgetRequestDTO dto = dtos.get(index);
+			try {
+				Car car = cars.get(dto.getCarId());
+				if (car == null)
+					throw new CarNotFoundException("Carro não existe na base de dados.");
+
+				Customer customer = customers.get(dto.getCustomerId());
+				if (customer == null)
+					throw new CustomerNotFoundException("Cliente não existe na base de dados.");
+
+				double amount = calculateAmount(car, driversWithClaims, carsWithClaims);
+				budgets.put(index, Budget.builder()
+						.amount(amount)
+						.car(car)
+						.customer(customer)
+						.build());
+			} catch (CustomBusinessException ex) {
+				results[index] = BudgetBatchItemDto.builder()
+						.index(index)
+						.carId(dto.getCarId())
+						.customerId(dto.getCustomerId())
+						.created(false)
+						.message(ex.getMessage())
+						.build();
+			}
+		}
+
+		budgetRepository.saveAll(budgets.values());
+
+		budgets.forEach((index, budget) -> results[index] = BudgetBatchItemDto.builder()
+				.index(index)
+				.carId(budget.getCar().getId())
+				.customerId(budget.getCustomer().getId())
+				.budgetId(budget.getId())
+				.amount(budget.getAmount())
+				.created(true)
+				.build());
+		return List.of(results);
 	}
 
-	private int evaluateRisks(Car car) throws NoMainDriverRegisteredException {
-		int risks = 0;
-		
+	/**
+	 * Visível no pacote, assim como evaluateRisks e mountResponse, para que os benchmarks meçam cada
+	 * passo isoladamente.
+	 */
+	double calculateAmount(Car car, long deadline) throws CustomBusinessException {
+		Float fipeValue = fipePriceService.priceFor(car);
+		QuoteKey key = quoteCache.keyFor(car, fipeValue, pricingRuleService.currentTariff().getVersion());
+		Double cached = quoteCache.get(key);
+		if (cached != null)
+			return cached;
+
+		double amount = fipeValue * evaluateRisks(car, deadline);
+		quoteCache.put(key, amount);
+		return amount;
+	}
+
+	private double calculateAmount(Car car, Set<Integer> driversWithClaims, Set<Integer> carsWithClaims)
+			throws NoMainDriverRegisteredException {
+		return fipePriceService.priceFor(car) * evaluateRisks(car, driversWithClaims, carsWithClaims);
+	}
+
+	double evaluateRisks(Car car, long deadline) throws CustomBusinessException {
+		CarDriver mainDriver = getMainDriver(car);
+		List<Integer> driverIds = getDriverIds(car);
+
+		if (!properties.isConcurrentLookups() || claimService.isIndexed()) {
+			boolean driversHaveClaims = claimService.hasClaimsForDrivers(driverIds);
+			boolean carHasClaims = claimService.hasClaimsForCar(car.getId());
+			return rateFor(mainDriver, driversHaveClaims, carHasClaims);
+		}
+
+		Future<Boolean> driverClaimsLookup = lookupExecutor.submit(() -> claimService.hasClaimsForDrivers(driverIds));
+		Future<Boolean> carClaimsLookup = lookupExecutor.submit(() -> claimService.hasClaimsForCar(car.getId()));
+		try {
+			boolean driversHaveClaims = lookupExecutor.await(driverClaimsLookup, deadline);
+			boolean carHasClaims = lookupExecutor.await(carClaimsLookup, deadline);
+			return rateFor(mainDriver, driversHaveClaims, carHasClaims);
+		} finally {
+			lookupExecutor.cancel(driverClaimsLookup, carClaimsLookup);
+		}
+	}
+
+	private double evaluateRisks(Car car, Set<Integer> driversWithClaims, Set<Integer> carsWithClaims)
+			throws NoMainDriverRegisteredException {
+		CarDriver mainDriver = getMainDriver(car);
+		boolean driversHaveClaims = getDriverIds(car).stream().anyMatch(driversWithClaims::contains);
+		boolean carHasClaims = carsWithClaims.contains(car.getId());
+		return rateFor(mainDriver, driversHaveClaims, carHasClaims);
+	}
+
+	private CarDriver getMainDriver(Car car) throws NoMainDriverRegisteredException {
 		Optional<CarDriver> mainDriver = car.getCarDriver().stream().filter(CarDriver::getMainDriver).findFirst();
 		
 		if(mainDriver.isEmpty())
 			throw new NoMainDriverRegisteredException("O carro informado não possui condutor principal cadastrado");
 		
-		int mainDriverAge = Period.between(mainDriver.get().getDriver().getBirthdate(), LocalDate.now()).getYears();
-		if(mainDriverAge <= 25 && mainDriverAge >= 18) {
-			risks++;
-		}
-		
-		List<Integer> driverIds  = car.getCarDriver().stream().map(item -> item.getDriver().getId()).collect(Collectors.toList());
-		if(!claimService.claimByDriverIdIn(driverIds).isEmpty()) {
-			risks++;
-		}
-		
-		if(!claimService.claimByCarId(car.getId()).isEmpty()) {
-			risks++;
-		}
-		return risks;
+		return mainDriver.get();
+	}
+
+	private List<Integer> getDriverIds(Car car) {
+		return car.getCarDriver().stream().map(item -> item.getDriver().getId()).collect(Collectors.toList());
+	}
+
+	private double rateFor(CarDriver mainDriver, boolean driversHaveClaims, boolean carHasClaims) {
+		int mainDriverAge = (int) ChronoUnit.YEARS.between(mainDriver.getDriver().getBirthdate(), LocalDate.now());
+		return pricingRuleService.currentTariff().rate(mainDriverAge, driversHaveClaims, carHasClaims);
 	}
 
 	@Override
 	public void updateBudget(BudgetRequestDTO dto) throws CustomBusinessException, BudgetNotFoundException {
-		Budget budget = getById(dto.getBudgetId());
-		Car car = carService.getCarById(dto.getCarId());
-		double amount = calculateAmount(car);
+		long deadline = lookupExecutor.deadline();
+		Budget budget;
+		Car car;
+		if (properties.isConcurrentLookups()) {
+			Future<Budget> budgetLookup = lookupExecutor.submit(() -> getById(dto.getBudgetId()));
+			Future<Car> carLookup = lookupExecutor.submit(() -> carService.getCarById(dto.getCarId()));
+			try {
+				budget = lookupExecutor.await(budgetLookup, deadline);
+				car = lookupExecutor.await(carLookup, deadline);
+			} finally {
+				lookupExecutor.cancel(budgetLookup, carLookup);
+			}
+		} else {
+			budget = getById(dto.getBudgetId());
+			car = carService.getCarById(dto.getCarId());
+		}
+		double amount = calculateAmount(car, deadline);
 		
 		budget.setAmount(amount);
 		budget.setCar(car);
@@ -106,30 +287,92 @@ public class BudgetServiceImpl implements BudgetService {
 
 
 	@Override
+	@Transactional(readOnly = true)
 	public BudgetResponseDto getBudget(Integer id) throws BudgetNotFoundException {
-		Budget budget = getById(id);
-		return mountResponse(budget);
+		List<BudgetDriverRow> rows = budgetRepository.findResponseRowsById(id);
+		if(rows.isEmpty())
+			throw new BudgetNotFoundException("Orçamento não existe na base de dados");
+		return mountResponse(rows);
 	}
 
-	private BudgetResponseDto mountResponse(Budget budget) {
+	BudgetResponseDto mountResponse(List<BudgetDriverRow> rows) {
+		BudgetDriverRow first = rows.get(0);
 		CarDto carDto = CarDto.builder()
-				.carManufacturer((budget.getCar().getManufacturer()))
-				.carModel(budget.getCar().getModel())
-				.carYear(budget.getCar().getReleaseYear())
+				.carManufacturer(first.getCarManufacturer())
+				.carModel(first.getCarModel())
+				.carYear(first.getCarYear())
 				.build();
 
-		List<DriverDto> driverDtoList = new ArrayList<>();
-		budget.getCar().getCarDriver().stream().forEach(
-				carDriver -> driverDtoList.add(DriverDto.builder()
-						.driverBirthdate(carDriver.getDriver().getBirthdate())
-						.driverDocument(carDriver.getDriver().getDocument())
-						.mainDriver(carDriver.getMainDriver())
-						.build()));
+		List<DriverDto> driverDtoList = new ArrayList<>(rows.size());
+		for (BudgetDriverRow row : rows) {
+			if (row.getCarDriverId() == null)
+				continue;
+			driverDtoList.add(DriverDto.builder()
+					.driverBirthdate(row.getDriverBirthdate())
+					.driverDocument(row.getDriverDocument())
+					.mainDriver(row.getMainDriver())
+					.build());
+		}
 
-		BudgetResponseDto response = BudgetResponseDto.builder()
-				.amount(budget.getAmount()).car(carDto)
+		return BudgetResponseDto.builder()
+				.amount(first.getAmount()).car(carDto)
 				.drivers(driverDtoList).build();
-		return response;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BudgetPageDto listBudgets(Integer customerId, Integer after, Integer size) {
+		int pageSize = size == null || size < 1 ? properties.getPageDefaultSize() : Math.min(size, properties.getPageMaxSize());
+		int cursor = after == null ? 0 : after;
+
+		// busca um registro a mais só para saber se existe próxima página, sem count
+		List<BudgetSummaryDto> items = budgetRepository.findPageByCustomerId(customerId, cursor,
+				PageRequest.of(0, pageSize + 1));
+		Integer nextCursor = null;
+		if (items.size() > pageSize) {
+			items = items.subList(0, pageSize);
+			nextCursor = items.get(pageSize - 1).getId();
+		}
+		return BudgetPageDto.builder().items(items).nextCursor(nextCursor).build();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportBudgets(OutputStream out) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(BudgetExportDto.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		// a projeção não gera entidades gerenciadas, então o contexto de persistência não cresce durante o export
+		try (Stream<BudgetExportDto> rows = budgetRepository.streamAllForExport();
+				JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			Iterator<BudgetExportDto> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				writer.writeValue(generator, iterator.next());
+				generator.writeRaw('\n');
+			}
+			generator.flush();
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, Double> priceCars(Collection<Integer> carIds) {
+		Map<Integer, Car> cars = carService.getCarsByIds(carIds);
+		Set<Integer> driverIds = cars.values().stream().flatMap(car -> getDriverIds(car).stream())
+				.collect(Collectors.toSet());
+		Set<Integer> driversWithClaims = claimService.driverIdsWithClaims(driverIds);
+		Set<Integer> carsWithClaims = claimService.carIdsWithClaims(cars.keySet());
+
+		Map<Integer, Double> amounts = new HashMap<>();
+		for (Car car : cars.values()) {
+			try {
+				amounts.put(car.getId(), calculateAmount(car, driversWithClaims, carsWithClaims));
+			} catch (NoMainDriverRegisteredException ex) {
+				// sem condutor principal não há como precificar, o orçamento mantém o valor atual
+			}
+		}
+		return amounts;
 	}
 
 	@Override
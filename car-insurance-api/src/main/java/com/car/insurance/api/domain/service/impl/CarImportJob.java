@@ -0,0 +1,83 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.car.insurance.api.domain.dto.CarImportErrorDto;
+import com.car.insurance.api.domain.dto.CarImportReportDto;
+
+import lombok.Getter;
+
+/**
+ * Progresso de uma importação. Atualizado pela thread que lê o arquivo e lido pela rota de acompanhamento.
+ */
+@Getter
+public class CarImportJob {
+
+	public enum Status {
+		RUNNING, COMPLETED, FAILED
+	}
+
+	private final String id;
+	private final LocalDateTime startedAt = LocalDateTime.now();
+	private final long startedNanos = System.nanoTime();
+	private final int maxReportedErrors;
+
+	private volatile Status status = Status.RUNNING;
+	private volatile LocalDateTime finishedAt;
+	private volatile long finishedNanos;
+
+	private final AtomicLong linesRead = new AtomicLong();
+	private final AtomicLong carsCreated = new AtomicLong();
+	private final AtomicLong driversCreated = new AtomicLong();
+	private final AtomicLong linksCreated = new AtomicLong();
+	private final AtomicLong errorCount = new AtomicLong();
+	private final List<CarImportErrorDto> errors = new ArrayList<>();
+
+	public CarImportJob(String id, int maxReportedErrors) {
+		this.id = id;
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	public void addError(long line, String message) {
+		if (errorCount.getAndIncrement() < maxReportedErrors) {
+			synchronized (errors) {
+				errors.add(new CarImportErrorDto(line, message));
+			}
+		}
+	}
+
+	public void finish(Status status) {
+		this.finishedNanos = System.nanoTime();
+		this.finishedAt = LocalDateTime.now();
+		this.status = status;
+	}
+
+	public boolean isFinished() {
+		return status != Status.RUNNING;
+	}
+
+	public CarImportReportDto toReport() {
+		long end = isFinished() ? finishedNanos : System.nanoTime();
+		double seconds = Math.max(end - startedNanos, 1) / 1_000_000_000d;
+		List<CarImportErrorDto> reportedErrors;
+		synchronized (errors) {
+			reportedErrors = new ArrayList<>(errors);
+		}
+		return CarImportReportDto.builder()
+				.id(id)
+				.status(status.name())
+				.startedAt(startedAt)
+				.finishedAt(finishedAt)
+				.linesRead(linesRead.get())
+				.carsCreated(carsCreated.get())
+				.driversCreated(driversCreated.get())
+				.linksCreated(linksCreated.get())
+				.errorCount(errorCount.get())
+				.rowsPerSecond(linesRead.get() / seconds)
+				.errors(reportedErrors)
+				.build();
+	}
+}
@@ -0,0 +1,266 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.config.CarImportProperties;
+import com.car.insurance.api.domain.dto.CarImportReportDto;
+import com.car.insurance.api.domain.repository.CarDriverRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.CarImportService;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Importa carros, condutores e vínculos a partir de um CSV com uma linha por vínculo:
+ * carKey,model,manufacturer,releaseYear,fipeValue,driverDocument,driverBirthdate,mainDriver
+ * 
+ * As linhas são gravadas em blocos, cada um na sua transação, com ids alocados pela sequence
+ * e inserts agrupados em lote pelo Hibernate.
+ */
+@Service
+public class CarImportServiceImpl implements CarImportService {
+
+	private static final DateTimeFormatter BIRTHDATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+	private static final int COLUMNS = 8;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private CarDriverRepository carDriverRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private CarImportProperties properties;
+
+	private final Map<String, CarImportJob> jobs = new ConcurrentHashMap<>();
+
+	@Override
+	public CarImportReportDto importCars(Reader reader) throws IOException {
+		CarImportJob job = new CarImportJob(UUID.randomUUID().toString(), properties.getMaxReportedErrors());
+		jobs.put(job.getId(), job);
+		evictFinishedJobs();
+
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		// chave do arquivo -> id já gravado, para vincular linhas de blocos diferentes
+		Map<String, Integer> carIds = new HashMap<>();
+		Map<String, Integer> driverIds = new HashMap<>();
+		List<CarImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+
+		try (BufferedReader lines = new BufferedReader(reader)) {
+			CsvRecordReader records = new CsvRecordReader(lines);
+			skipHeader(records);
+			while (true) {
+				List<String> columns;
+				try {
+					columns = records.next();
+				} catch (IllegalArgumentException e) {
+					job.getLinesRead().incrementAndGet();
+					job.addError(records.getRecordLine(), e.getMessage());
+					continue;
+				}
+				if (columns == null)
+					break;
+				long lineNumber = records.getRecordLine();
+				job.getLinesRead().incrementAndGet();
+				if (columns.size() == 1 && columns.get(0).isBlank())
+					continue;
+				try {
+					chunk.add(parse(columns, lineNumber));
+				} catch (IllegalArgumentException e) {
+					job.addError(lineNumber, e.getMessage());
+					continue;
+				}
+				if (chunk.size() >= properties.getChunkSize()) {
+					writeChunk(transaction, job, chunk, carIds, driverIds);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty())
+				writeChunk(transaction, job, chunk, carIds, driverIds);
+			job.finish(CarImportJob.Status.COMPLETED);
+		} catch (IOException | RuntimeException e) {
+			job.finish(CarImportJob.Status.FAILED);
+			throw e;
+		}
+		return job.toReport();
+	}
+
+	@Override
+	public List<CarImportReportDto> getImports() {
+		return jobs.values().stream()
+				.sorted(Comparator.comparing(CarImportJob::getStartedAt).reversed())
+				.map(CarImportJob::toReport)
+				.collect(Collectors.toList());
+	}
+
+	private void writeChunk(TransactionTemplate transaction, CarImportJob job, List<CarImportRow> rows,
+			Map<String, Integer> carIds, Map<String, Integer> driverIds) {
+		ChunkResult result;
+		try {
+			result = transaction.execute(status -> persistChunk(rows, carIds, driverIds));
+		} catch (RuntimeException e) {
+			String message = "Falha ao gravar o bloco: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+			rows.forEach(row -> job.addError(row.getLine(), message));
+			return;
+		}
+		// só depois do commit os ids passam a valer para os próximos blocos
+		result.getCars().forEach((key, car) -> carIds.put(key, car.getId()));
+		result.getDrivers().forEach((document, driver) -> driverIds.put(document, driver.getId()));
+		job.getCarsCreated().addAndGet(result.getCarsCreated());
+		job.getDriversCreated().addAndGet(result.getDriversCreated());
+		job.getLinksCreated().addAndGet(result.getLinksCreated());
+	}
+
+	private ChunkResult persistChunk(List<CarImportRow> rows, Map<String, Integer> carIds,
+			Map<String, Integer> driverIds) {
+		Map<String, Driver> drivers = new HashMap<>();
+		Set<String> unknownDocuments = rows.stream().map(CarImportRow::getDocument)
+				.filter(document -> !driverIds.containsKey(document)).collect(Collectors.toSet());
+		if (!unknownDocuments.isEmpty())
+			driverRepository.findByDocumentIn(unknownDocuments)
+					.forEach(driver -> drivers.putIfAbsent(driver.getDocument(), driver));
+
+		Map<String, Car> newCars = new LinkedHashMap<>();
+		List<Driver> newDrivers = new ArrayList<>();
+		List<CarDriver> links = new ArrayList<>(rows.size());
+		for (CarImportRow row : rows) {
+			Car car = carIds.containsKey(row.getCarKey())
+					? entityManager.getReference(Car.class, carIds.get(row.getCarKey()))
+					: newCars.computeIfAbsent(row.getCarKey(), key -> new Car(null, row.getModel(),
+							row.getManufacturer(), row.getReleaseYear(), row.getFipeValue(), null));
+
+			Driver driver = driverIds.containsKey(row.getDocument())
+					? entityManager.getReference(Driver.class, driverIds.get(row.getDocument()))
+					: drivers.computeIfAbsent(row.getDocument(), document -> {
+						Driver newDriver = new Driver(null, document, row.getBirthdate());
+						newDrivers.add(newDriver);
+						return newDriver;
+					});
+
+			links.add(new CarDriver(null, driver, car, null, row.getMainDriver()));
+		}
+
+		carRepository.saveAll(newCars.values());
+		driverRepository.saveAll(newDrivers);
+		carDriverRepository.saveAll(links);
+		// a importação roda na thread da requisição, cujo EntityManager vale para todos os blocos;
+		// sem o clear cada entidade gravada continuaria gerenciada até o fim do arquivo
+		entityManager.flush();
+		entityManager.clear();
+		return new ChunkResult(newCars, drivers, newCars.size(), newDrivers.size(), links.size());
+	}
+
+	private void skipHeader(CsvRecordReader records) throws IOException {
+		try {
+			records.next();
+		} catch (IllegalArgumentException e) {
+			// cabeçalho malformado é descartado como qualquer outro cabeçalho
+		}
+	}
+
+	/**
+	 * Colunas do registro já separadas pelo CsvRecordReader, então valores entre aspas podem conter
+	 * vírgulas, como em {@code "Strada, cabine dupla"}.
+	 */
+	private CarImportRow parse(List<String> fields, long lineNumber) {
+		if (fields.size() != COLUMNS)
+			throw new IllegalArgumentException("A linha deve ter " + COLUMNS + " colunas separadas por vírgula");
+		String[] columns = new String[COLUMNS];
+		for (int i = 0; i < COLUMNS; i++)
+			columns[i] = fields.get(i).trim();
+		if (columns[0].isEmpty() || columns[5].isEmpty())
+			throw new IllegalArgumentException("Chave do carro e documento do condutor são obrigatórios");
+
+		Float fipeValue;
+		try {
+			fipeValue = Float.valueOf(columns[4]);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Valor FIPE inválido: " + columns[4]);
+		}
+		LocalDate birthdate;
+		try {
+			birthdate = LocalDate.parse(columns[6], BIRTHDATE_FORMAT);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Data de nascimento inválida, use dd/MM/yyyy: " + columns[6]);
+		}
+		if (!columns[7].equalsIgnoreCase("true") && !columns[7].equalsIgnoreCase("false"))
+			throw new IllegalArgumentException("Condutor principal deve ser true ou false: " + columns[7]);
+
+		return new CarImportRow(lineNumber, columns[0], columns[1], columns[2], columns[3], fipeValue, columns[5],
+				birthdate, Boolean.valueOf(columns[7]));
+	}
+
+	private void evictFinishedJobs() {
+		int excess = jobs.size() - properties.getRetainedJobs();
+		if (excess <= 0)
+			return;
+		jobs.values().stream().filter(CarImportJob::isFinished)
+				.sorted(Comparator.comparing(CarImportJob::getStartedAt))
+				.limit(excess)
+				.map(CarImportJob::getId)
+				.collect(Collectors.toList())
+				.forEach(jobs::remove);
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class CarImportRow {
+		private long line;
+		private String carKey;
+		private String model;
+		private String manufacturer;
+		private String releaseYear;
+		private Float fipeValue;
+		private String document;
+		private LocalDate birthdate;
+		private Boolean mainDriver;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class ChunkResult {
+		private Map<String, Car> cars;
+		private Map<String, Driver> drivers;
+		private int carsCreated;
+		private int driversCreated;
+		private int linksCreated;
+	}
+}
@@ -1,6 +1,11 @@
 package com.car.insurance.api.domain.service.impl;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,11 +23,20 @@ public class CarServiceImpl implements CarService {
 
 	@Override
 	public Car getCarById(Integer id) throws CarNotFoundException {
-		Optional<Car> car = carRepository.findById(id);
+		Optional<Car> car = carRepository.findWithDriversById(id);
 		if (car.isEmpty()) {
 			throw new CarNotFoundException("Carro não existe na base de dados.");
 		}
 		return car.get();
 	}
 
+	@Override
+	public Map<Integer, Car> getCarsByIds(Collection<Integer> ids) {
+		if (ids.isEmpty())
+			return Collections.emptyMap();
+
+		return carRepository.findAllWithDriversByIdIn(ids).stream()
+				.collect(Collectors.toMap(Car::getId, Function.identity()));
+	}
+
 }
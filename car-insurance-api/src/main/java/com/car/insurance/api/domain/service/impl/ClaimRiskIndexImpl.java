@@ -0,0 +1,276 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.repository.ClaimRepository;
+import com.car.insurance.api.domain.service.ClaimRiskIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória dos condutores e carros que possuem sinistro, usado na
+ * avaliação de risco no lugar das consultas à tabela claim.
+ * <p>
+ * Inclusões marcam o bit imediatamente (a própria transação já enxerga o
+ * sinistro). Remoções, o condutor ou carro que uma alteração deixou e
+ * transações desfeitas deixam o id "incerto": o bit é confirmado no banco na
+ * próxima consulta que envolver aquele id.
+ */
+@Slf4j
+@Service
+public class ClaimRiskIndexImpl implements ClaimRiskIndex {
+
+	@Autowired
+	private ClaimRepository repository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private BitSet drivers = new BitSet();
+	private BitSet cars = new BitSet();
+
+	private final Set<Integer> uncertainDrivers = ConcurrentHashMap.newKeySet();
+	private final Set<Integer> uncertainCars = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean ready;
+	private volatile boolean rebuilding;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	@Override
+	public boolean anyDriverHasClaims(Collection<Integer> driverIds) {
+		resolveUncertain(driverIds, uncertainDrivers, repository::existsByDriverId, true);
+		lock.readLock().lock();
+		try {
+			for (Integer driverId : driverIds) {
+				if (driverId != null && drivers.get(driverId))
+					return true;
+			}
+			return false;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean carHasClaims(Integer carId) {
+		if (carId == null)
+			return false;
+		resolveUncertain(List.of(carId), uncertainCars, repository::existsByCarId, false);
+		lock.readLock().lock();
+		try {
+			return cars.get(carId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Set<Integer> driversWithClaims(Collection<Integer> driverIds) {
+		resolveUncertain(driverIds, uncertainDrivers, repository::existsByDriverId, true);
+		return filter(driverIds, true);
+	}
+
+	@Override
+	public Set<Integer> carsWithClaims(Collection<Integer> carIds) {
+		resolveUncertain(carIds, uncertainCars, repository::existsByCarId, false);
+		return filter(carIds, false);
+	}
+
+	@Override
+	public void claimSaved(Claim claim) {
+		Integer driverId = driverIdOf(claim);
+		Integer carId = carIdOf(claim);
+		mark(driverId, carId);
+		afterCompletion(committed -> {
+			if (committed && !rebuilding)
+				mark(driverId, carId);
+			else
+				markUncertain(driverId, carId);
+		});
+	}
+
+	@Override
+	public void claimUpdated(Claim claim, Integer previousDriverId, Integer previousCarId) {
+		claimSaved(claim);
+		Integer leftDriverId = Objects.equals(previousDriverId, driverIdOf(claim)) ? null : previousDriverId;
+		Integer leftCarId = Objects.equals(previousCarId, carIdOf(claim)) ? null : previousCarId;
+		if (leftDriverId == null && leftCarId == null)
+			return;
+		markUncertain(leftDriverId, leftCarId);
+		afterCompletion(committed -> markUncertain(leftDriverId, leftCarId));
+	}
+
+	@Override
+	public void claimRemoved(Claim claim) {
+		Integer driverId = driverIdOf(claim);
+		Integer carId = carIdOf(claim);
+		afterCompletion(committed -> markUncertain(driverId, carId));
+	}
+
+	@Override
+	public synchronized void rebuild() {
+		rebuilding = true;
+		try {
+			BitSet newDrivers = toBitSet(repository.findAllDriverIdsWithClaims());
+			BitSet newCars = toBitSet(repository.findAllCarIdsWithClaims());
+
+			lock.writeLock().lock();
+			try {
+				drivers = newDrivers;
+				cars = newCars;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			ready = true;
+			log.info("Índice de sinistros carregado: {} condutores e {} carros com sinistro",
+					newDrivers.cardinality(), newCars.cardinality());
+		} finally {
+			rebuilding = false;
+		}
+	}
+
+	@Override
+	@Scheduled(fixedDelayString = "${claim.index.consistency-check-interval-ms:300000}",
+			initialDelayString = "${claim.index.consistency-check-interval-ms:300000}")
+	public boolean checkConsistency() {
+		if (!ready)
+			return false;
+
+		BitSet expectedDrivers = toBitSet(repository.findAllDriverIdsWithClaims());
+		BitSet expectedCars = toBitSet(repository.findAllCarIdsWithClaims());
+
+		int driverMismatches;
+		int carMismatches;
+		lock.readLock().lock();
+		try {
+			driverMismatches = mismatches(expectedDrivers, drivers, uncertainDrivers);
+			carMismatches = mismatches(expectedCars, cars, uncertainCars);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (driverMismatches == 0 && carMismatches == 0)
+			return true;
+
+		log.warn("Índice de sinistros divergente do banco ({} condutores, {} carros). Reconstruindo.",
+				driverMismatches, carMismatches);
+		rebuild();
+		return false;
+	}
+
+	private void resolveUncertain(Collection<Integer> ids, Set<Integer> uncertain, Predicate<Integer> hasClaims,
+			boolean driverIds) {
+		if (uncertain.isEmpty())
+			return;
+
+		for (Integer id : ids) {
+			if (id != null && uncertain.remove(id)) {
+				boolean exists = hasClaims.test(id);
+				lock.writeLock().lock();
+				try {
+					(driverIds ? drivers : cars).set(id, exists);
+				} finally {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	private Set<Integer> filter(Collection<Integer> ids, boolean driverIds) {
+		Set<Integer> result = new HashSet<>();
+		lock.readLock().lock();
+		try {
+			BitSet bits = driverIds ? drivers : cars;
+			for (Integer id : ids) {
+				if (id != null && bits.get(id))
+					result.add(id);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return result;
+	}
+
+	private void mark(Integer driverId, Integer carId) {
+		lock.writeLock().lock();
+		try {
+			if (driverId != null)
+				drivers.set(driverId);
+			if (carId != null)
+				cars.set(carId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void markUncertain(Integer driverId, Integer carId) {
+		if (driverId != null)
+			uncertainDrivers.add(driverId);
+		if (carId != null)
+			uncertainCars.add(carId);
+	}
+
+	private void afterCompletion(Consumer<Boolean> callback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			callback.accept(true);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				callback.accept(status == STATUS_COMMITTED);
+			}
+		});
+	}
+
+	private int mismatches(BitSet expected, BitSet actual, Set<Integer> uncertain) {
+		BitSet diff = (BitSet) expected.clone();
+		diff.xor(actual);
+		uncertain.forEach(id -> diff.clear(id));
+		return diff.cardinality();
+	}
+
+	private BitSet toBitSet(List<Integer> ids) {
+		BitSet bits = new BitSet();
+		ids.forEach(bits::set);
+		return bits;
+	}
+
+	private Integer driverIdOf(Claim claim) {
+		Driver driver = claim.getDriver();
+		return driver == null ? null : driver.getId();
+	}
+
+	private Integer carIdOf(Claim claim) {
+		Car car = claim.getCar();
+		return car == null ? null : car.getId();
+	}
+}
@@ -1,12 +1,17 @@
 package com.car.insurance.api.domain.service.impl;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.car.insurance.api.domain.Claim;
 import com.car.insurance.api.domain.repository.ClaimRepository;
+import com.car.insurance.api.domain.service.ClaimRiskIndex;
 import com.car.insurance.api.domain.service.ClaimService;
 
 @Service
@@ -14,6 +19,10 @@ public class ClaimServiceImpl implements ClaimService {
 
 	@Autowired
 	private ClaimRepository repository;
+
+	@Autowired
+	private ClaimRiskIndex claimRiskIndex;
+
 	@Override
 	public List<Claim> claimByCarId(Integer carId) {
 		return repository.findByCarId(carId);
@@ -24,4 +33,43 @@ public class ClaimServiceImpl implements ClaimService {
 		return repository.findByDriverIdIn(ids);
 	}
 
+	@Override
+	public boolean isIndexed() {
+		return claimRiskIndex.isReady();
+	}
+
+	@Override
+	public boolean hasClaimsForDrivers(Collection<Integer> driverIds) {
+		if (driverIds.isEmpty())
+			return false;
+		if (claimRiskIndex.isReady())
+			return claimRiskIndex.anyDriverHasClaims(driverIds);
+		return !repository.findDriverIdsWithClaims(driverIds).isEmpty();
+	}
+
+	@Override
+	public boolean hasClaimsForCar(Integer carId) {
+		if (claimRiskIndex.isReady())
+			return claimRiskIndex.carHasClaims(carId);
+		return repository.existsByCarId(carId);
+	}
+
+	@Override
+	public Set<Integer> driverIdsWithClaims(Collection<Integer> driverIds) {
+		if (driverIds.isEmpty())
+			return Collections.emptySet();
+		if (claimRiskIndex.isReady())
+			return claimRiskIndex.driversWithClaims(driverIds);
+		return new HashSet<>(repository.findDriverIdsWithClaims(driverIds));
+	}
+
+	@Override
+	public Set<Integer> carIdsWithClaims(Collection<Integer> carIds) {
+		if (carIds.isEmpty())
+			return Collections.emptySet();
+		if (claimRiskIndex.isReady())
+			return claimRiskIndex.carsWithClaims(carIds);
+		return new HashSet<>(repository.findCarIdsWithClaims(carIds));
+	}
+
 }
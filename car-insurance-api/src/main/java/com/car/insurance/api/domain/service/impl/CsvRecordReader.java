@@ -0,0 +1,124 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV conforme a RFC 4180: campos separados por vírgula, campos entre aspas podem conter
+ * vírgulas e quebras de linha, e {@code ""} dentro das aspas vale uma aspa. Aceita \r\n, \n ou \r
+ * como fim de registro.
+ *
+ * Um registro malformado lança IllegalArgumentException depois de consumido até o fim da linha,
+ * então a leitura pode continuar no próximo registro.
+ */
+final class CsvRecordReader {
+
+	private static final int EOF = -1;
+
+	private final Reader reader;
+	private int pending = EOF;
+	private boolean hasPending;
+	private long line = 1;
+	private long recordLine;
+
+	CsvRecordReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * Campos do próximo registro, ou null no fim do arquivo. Linha em branco volta como um único
+	 * campo vazio.
+	 */
+	List<String> next() throws IOException {
+		int c = read();
+		if (c == EOF)
+			return null;
+
+		recordLine = line;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		while (true) {
+			if (c == '"' && field.length() == 0) {
+				readQuoted(field);
+				c = read();
+				if (c != ',' && !isEndOfRecord(c)) {
+					skipLine(c);
+					throw new IllegalArgumentException("Caractere inválido depois do fechamento das aspas");
+				}
+			}
+			if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (isEndOfRecord(c)) {
+				fields.add(field.toString());
+				consumeLineBreak(c);
+				return fields;
+			} else {
+				field.append((char) c);
+			}
+			c = read();
+		}
+	}
+
+	/**
+	 * Linha do arquivo onde começou o último registro lido.
+	 */
+	long getRecordLine() {
+		return recordLine;
+	}
+
+	private void readQuoted(StringBuilder field) throws IOException {
+		while (true) {
+			int c = read();
+			if (c == EOF)
+				throw new IllegalArgumentException("Campo entre aspas sem fechamento");
+			if (c == '"') {
+				int next = read();
+				if (next != '"') {
+					unread(next);
+					return;
+				}
+			} else if (c == '\r' || c == '\n') {
+				consumeLineBreak(c);
+				c = '\n';
+			}
+			field.append((char) c);
+		}
+	}
+
+	private void skipLine(int c) throws IOException {
+		while (!isEndOfRecord(c))
+			c = read();
+		consumeLineBreak(c);
+	}
+
+	private void consumeLineBreak(int c) throws IOException {
+		if (c == EOF)
+			return;
+		line++;
+		if (c == '\r') {
+			int next = read();
+			if (next != '\n')
+				unread(next);
+		}
+	}
+
+	private static boolean isEndOfRecord(int c) {
+		return c == '\n' || c == '\r' || c == EOF;
+	}
+
+	private int read() throws IOException {
+		if (hasPending) {
+			hasPending = false;
+			return pending;
+		}
+		return reader.read();
+	}
+
+	private void unread(int c) {
+		pending = c;
+		hasPending = true;
+	}
+}
@@ -1,6 +1,11 @@
 package com.car.insurance.api.domain.service.impl;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -26,4 +31,13 @@ public class CustomerServiceImpl implements CustomerService {
 		return customer.get();
 	}
 
+	@Override
+	public Map<Integer, Customer> getCustomersByIds(Collection<Integer> ids) {
+		if (ids.isEmpty())
+			return Collections.emptyMap();
+
+		return customerRepository.findAllWithDriverByIdIn(ids).stream()
+				.collect(Collectors.toMap(Customer::getId, Function.identity()));
+	}
+
 }
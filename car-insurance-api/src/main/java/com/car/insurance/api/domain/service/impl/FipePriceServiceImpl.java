@@ -0,0 +1,203 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.FipePrice;
+import com.car.insurance.api.domain.FipeVersion;
+import com.car.insurance.api.domain.config.FipeProperties;
+import com.car.insurance.api.domain.dto.FipePriceDto;
+import com.car.insurance.api.domain.dto.FipeVersionDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.exception.FipeVersionNotFoundException;
+import com.car.insurance.api.domain.exception.InvalidFipePriceException;
+import com.car.insurance.api.domain.pricing.FipeTable;
+import com.car.insurance.api.domain.repository.FipePriceRepository;
+import com.car.insurance.api.domain.repository.FipeVersionRepository;
+import com.car.insurance.api.domain.service.FipePriceService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class FipePriceServiceImpl implements FipePriceService {
+
+	@Autowired
+	private FipePriceRepository priceRepository;
+
+	@Autowired
+	private FipeVersionRepository versionRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private FipeProperties properties;
+
+	private final AtomicReference<FipeTable> table = new AtomicReference<>();
+
+	/**
+	 * Momento da ativação da versão em uso; muda também quando o mesmo mês é reimportado e ativado.
+	 */
+	private volatile LocalDateTime loadedActivatedAt;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		refreshActiveVersion();
+	}
+
+	/**
+	 * A ativação só troca a tabela da instância que atendeu a chamada; as demais percebem a nova
+	 * versão por esta verificação periódica.
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${fipe.table.refresh-interval-ms:60000}",
+			initialDelayString = "${fipe.table.refresh-interval-ms:60000}")
+	public synchronized void refreshActiveVersion() {
+		Optional<FipeVersion> active = versionRepository.findFirstByActiveTrue();
+		if (active.isEmpty() || isLoaded(active.get()))
+			return;
+
+		String referenceMonth = active.get().getReferenceMonth();
+		try {
+			table.set(build(referenceMonth));
+			loadedActivatedAt = active.get().getActivatedAt();
+			log.info("Tabela FIPE {} carregada", referenceMonth);
+		} catch (IOException | RuntimeException e) {
+			log.error("Falha ao carregar a tabela FIPE {}, mantendo a tabela atual", referenceMonth, e);
+		}
+	}
+
+	private boolean isLoaded(FipeVersion version) {
+		FipeTable current = table.get();
+		return current != null && current.getReferenceMonth().equals(version.getReferenceMonth())
+				&& Objects.equals(loadedActivatedAt, version.getActivatedAt());
+	}
+
+	@Override
+	public Float priceFor(Car car) {
+		FipeTable current = table.get();
+		if (current != null) {
+			Float price = current.price(car.getManufacturer(), car.getModel(), car.getReleaseYear());
+			if (price != null)
+				return price;
+		}
+		return car.getFipeValue();
+	}
+
+	@Override
+	@Transactional
+	public FipeVersionDto importPrices(String referenceMonth, List<FipePriceDto> prices)
+			throws CustomBusinessException {
+		validate(prices);
+		priceRepository.deleteByReferenceMonth(referenceMonth);
+		priceRepository.saveAll(prices.stream()
+				.map(price -> new FipePrice(null, referenceMonth, price.getManufacturer(), price.getModel(),
+						price.getReleaseYear(), price.getPrice()))
+				.collect(Collectors.toList()));
+
+		FipeVersion version = versionRepository.findById(referenceMonth)
+				.orElseGet(() -> new FipeVersion(referenceMonth, 0, false, null));
+		version.setEntries(prices.size());
+		return toDto(versionRepository.save(version));
+	}
+
+	@Override
+	public synchronized FipeVersionDto activate(String referenceMonth) throws CustomBusinessException, IOException {
+		FipeVersion version = versionRepository.findById(referenceMonth).orElseThrow(
+				() -> new FipeVersionNotFoundException("Tabela FIPE não encontrada para o mês " + referenceMonth));
+
+		FipeTable loaded = build(referenceMonth);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			versionRepository.deactivateAll();
+			version.setActive(true);
+			version.setActivatedAt(LocalDateTime.now());
+			versionRepository.save(version);
+		});
+		// a troca é uma única escrita; cotações em andamento terminam com a tabela que já tinham lido
+		table.set(loaded);
+		loadedActivatedAt = version.getActivatedAt();
+		log.info("Tabela FIPE {} ativada com {} itens", referenceMonth, loaded.getEntries());
+		return toDto(version);
+	}
+
+	@Override
+	public FipeVersionDto getActiveVersion() throws CustomBusinessException {
+		FipeTable current = table.get();
+		if (current == null)
+			throw new FipeVersionNotFoundException("Nenhuma tabela FIPE ativa");
+		return versionRepository.findById(current.getReferenceMonth()).map(this::toDto)
+				.orElseGet(() -> FipeVersionDto.builder()
+						.referenceMonth(current.getReferenceMonth())
+						.entries(current.getEntries())
+						.active(true)
+						.build());
+	}
+
+	private void validate(List<FipePriceDto> prices) throws InvalidFipePriceException {
+		if (prices.size() > FipeTable.MAX_ENTRIES)
+			throw new InvalidFipePriceException(
+					String.format("A tabela FIPE deve conter no máximo %d itens.", FipeTable.MAX_ENTRIES));
+		for (int index = 0; index < prices.size(); index++) {
+			FipePriceDto price = prices.get(index);
+			if (price == null || isBlank(price.getManufacturer()) || isBlank(price.getModel())
+					|| isBlank(price.getReleaseYear()))
+				throw new InvalidFipePriceException(
+						String.format("Item %d da tabela FIPE sem fabricante, modelo ou ano.", index));
+			if (price.getPrice() == null || !(price.getPrice() > 0) || price.getPrice().isInfinite())
+				throw new InvalidFipePriceException(
+						String.format("Item %d da tabela FIPE com preço inválido.", index));
+		}
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private FipeTable build(String referenceMonth) throws IOException {
+		Path file = Paths.get(properties.getTableDirectory(), "fipe-" + referenceMonth + ".bin");
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		try {
+			readOnly.executeWithoutResult(status -> {
+				long count = priceRepository.countByReferenceMonth(referenceMonth);
+				try (Stream<FipePriceDto> prices = priceRepository.streamByReferenceMonth(referenceMonth)) {
+					FipeTable.write(file, count, prices.iterator());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		return FipeTable.open(referenceMonth, file);
+	}
+
+	private FipeVersionDto toDto(FipeVersion version) {
+		return FipeVersionDto.builder()
+				.referenceMonth(version.getReferenceMonth())
+				.entries(version.getEntries())
+				.active(version.getActive())
+				.activatedAt(version.getActivatedAt())
+				.build();
+	}
+}
@@ -0,0 +1,62 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.car.insurance.api.domain.PricingRule;
+import com.car.insurance.api.domain.pricing.PricingTariff;
+import com.car.insurance.api.domain.repository.PricingRuleRepository;
+import com.car.insurance.api.domain.service.PricingRuleService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class PricingRuleServiceImpl implements PricingRuleService {
+
+	@Autowired
+	private PricingRuleRepository repository;
+
+	private final AtomicReference<PricingTariff> tariff = new AtomicReference<>(PricingTariff.defaults());
+
+	@Override
+	public PricingTariff currentTariff() {
+		return tariff.get();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		reload();
+	}
+
+	@Scheduled(fixedDelayString = "${pricing.rules.refresh-interval-ms:60000}",
+			initialDelayString = "${pricing.rules.refresh-interval-ms:60000}")
+	public void refresh() {
+		reload();
+	}
+
+	@Override
+	public synchronized PricingTariff reload() {
+		List<PricingRule> rules = repository.findByActiveTrue();
+		PricingTariff current = tariff.get();
+		if (rules.isEmpty()) {
+			log.warn("Nenhuma regra de precificação ativa encontrada, mantendo a tarifa versão {}",
+					current.getVersion());
+			return current;
+		}
+
+		PricingTariff compiled = PricingTariff.compile(rules, current.getVersion() + 1);
+		if (compiled.sameRatesAs(current))
+			return current;
+
+		tariff.set(compiled);
+		log.info("Tarifa de precificação versão {} carregada com {} regras", compiled.getVersion(), rules.size());
+		return compiled;
+	}
+}
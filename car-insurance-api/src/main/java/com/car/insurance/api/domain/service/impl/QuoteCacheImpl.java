@@ -0,0 +1,104 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.pricing.QuoteKey;
+import com.car.insurance.api.domain.service.QuoteCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache das cotações calculadas. Os contadores de versão do carro e de
+ * sinistros são distribuídos em faixas por id de carro e de condutor: uma
+ * alteração incrementa a faixa do carro ou do condutor envolvido, de modo que
+ * cotações calculadas antes da alteração deixam de ser encontradas mesmo que
+ * tenham sido gravadas no cache depois da invalidação. As entradas antigas não
+ * são varridas; saem pelo tamanho máximo ou pela expiração.
+ */
+@Service
+public class QuoteCacheImpl implements QuoteCache {
+
+	private static final int VERSION_STRIPES = 1024;
+
+	private final Cache<QuoteKey, Double> cache;
+	private final AtomicLongArray carVersions = new AtomicLongArray(VERSION_STRIPES);
+	private final AtomicLongArray carClaimVersions = new AtomicLongArray(VERSION_STRIPES);
+	private final AtomicLongArray driverClaimVersions = new AtomicLongArray(VERSION_STRIPES);
+
+	@Autowired
+	public QuoteCacheImpl(BudgetProperties properties, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(properties.getQuoteCacheMaxSize())
+				.expireAfterWrite(properties.getQuoteCacheExpireAfterWriteMinutes(), TimeUnit.MINUTES)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "quotes");
+	}
+
+	@Override
+	public QuoteKey keyFor(Car car, Float fipeValue, long tariffVersion) {
+		List<CarDriver> carDrivers = new ArrayList<>(car.getCarDriver());
+		carDrivers.sort(Comparator.comparing(CarDriver::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+		long claimsVersion = carClaimVersions.get(stripe(car.getId()));
+		long[] drivers = new long[carDrivers.size() * 2];
+		int position = 0;
+		for (CarDriver carDriver : carDrivers) {
+			Driver driver = carDriver.getDriver();
+			drivers[position++] = ((long) valueOf(carDriver.getId()) << 32) | (valueOf(driver.getId()) & 0xffffffffL);
+			drivers[position++] = (driver.getBirthdate() == null ? Long.MIN_VALUE : driver.getBirthdate().toEpochDay() << 1)
+					| (Boolean.TRUE.equals(carDriver.getMainDriver()) ? 1 : 0);
+			claimsVersion += driverClaimVersions.get(stripe(driver.getId()));
+		}
+
+		return new QuoteKey(car.getId(), fipeValue, drivers, carVersions.get(stripe(car.getId())), claimsVersion,
+				tariffVersion, LocalDate.now().toEpochDay());
+	}
+
+	@Override
+	public Double get(QuoteKey key) {
+		return cache.getIfPresent(key);
+	}
+
+	@Override
+	public void put(QuoteKey key, double amount) {
+		cache.put(key, amount);
+	}
+
+	@Override
+	public void invalidateCar(Integer carId) {
+		if (carId != null)
+			carVersions.incrementAndGet(stripe(carId));
+	}
+
+	@Override
+	public void claimChanged(Integer driverId, Integer carId) {
+		if (carId != null)
+			carClaimVersions.incrementAndGet(stripe(carId));
+		if (driverId != null)
+			driverClaimVersions.incrementAndGet(stripe(driverId));
+	}
+
+	private int stripe(Integer id) {
+		return valueOf(id) & (VERSION_STRIPES - 1);
+	}
+
+	private int valueOf(Integer id) {
+		return id == null ? 0 : id;
+	}
+}
@@ -0,0 +1,97 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.exception.QuoteTimeoutException;
+
+/**
+ * Pool limitado para executar em paralelo as consultas independentes de uma
+ * cotação. Quando a fila enche, a consulta é recusada e a cotação falha com
+ * QuoteTimeoutException (503) em vez de rodar na thread da requisição sem
+ * prazo. Cada cotação tem um prazo único para todas as suas consultas; quem
+ * chama deve cancelar as consultas pendentes ao sair.
+ */
+@Component
+public class QuoteLookupExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+	private final long timeoutNanos;
+
+	public QuoteLookupExecutor(BudgetProperties properties) {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "quote-lookup-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		this.executor = new ThreadPoolExecutor(properties.getLookupPoolSize(), properties.getLookupPoolSize(), 60,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getLookupQueueCapacity()), threadFactory,
+				new ThreadPoolExecutor.AbortPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLookupTimeoutMs());
+	}
+
+	public long deadline() {
+		return System.nanoTime() + timeoutNanos;
+	}
+
+	/**
+	 * Consulta recusada pela fila cheia vira um Future já falho, que o await converte em
+	 * QuoteTimeoutException; assim as consultas já enviadas continuam sendo canceladas por quem chama.
+	 */
+	public <T> Future<T> submit(Callable<T> lookup) {
+		try {
+			return executor.submit(lookup);
+		} catch (RejectedExecutionException ex) {
+			return CompletableFuture.failedFuture(
+					new QuoteTimeoutException("Fila de consultas da cotação cheia. Tente novamente."));
+		}
+	}
+
+	public <T> T await(Future<T> lookup, long deadline) throws CustomBusinessException {
+		try {
+			return lookup.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException ex) {
+			throw new QuoteTimeoutException("Tempo limite excedido ao consultar os dados da cotação.");
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new QuoteTimeoutException("Consulta dos dados da cotação interrompida.");
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof CustomBusinessException)
+				throw (CustomBusinessException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	public void cancel(Future<?>... lookups) {
+		for (Future<?> lookup : lookups) {
+			if (!lookup.isDone())
+				lookup.cancel(true);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
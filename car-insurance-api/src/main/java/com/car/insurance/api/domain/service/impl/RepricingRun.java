@@ -0,0 +1,51 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * Contadores em memória de uma execução do reprecificador. A posição de cada worker fica em
+ * repricing_checkpoint.
+ */
+@Getter
+public class RepricingRun {
+
+	public enum Status {
+		RUNNING, COMPLETED, FAILED, INTERRUPTED
+	}
+
+	private final String id;
+	private final LocalDateTime startedAt = LocalDateTime.now();
+	private final long startedNanos = System.nanoTime();
+
+	private volatile Status status = Status.RUNNING;
+	private volatile LocalDateTime finishedAt;
+	private volatile long finishedNanos;
+	private volatile String message;
+
+	private final AtomicLong repriced = new AtomicLong();
+	private final AtomicLong skipped = new AtomicLong();
+
+	public RepricingRun(String id) {
+		this.id = id;
+	}
+
+	public void finish(Status status, String message) {
+		this.finishedNanos = System.nanoTime();
+		this.finishedAt = LocalDateTime.now();
+		this.message = message;
+		this.status = status;
+	}
+
+	public boolean isRunning() {
+		return status == Status.RUNNING;
+	}
+
+	public double budgetsPerSecond() {
+		long end = isRunning() ? System.nanoTime() : finishedNanos;
+		double seconds = Math.max(end - startedNanos, 1) / 1_000_000_000d;
+		return (repriced.get() + skipped.get()) / seconds;
+	}
+}
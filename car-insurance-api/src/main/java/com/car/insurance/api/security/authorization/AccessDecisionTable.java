@@ -0,0 +1,173 @@
+package com.car.insurance.api.security.authorization;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.car.insurance.api.security.domain.Resource;
+import com.car.insurance.api.security.domain.ResourceScope;
+import com.car.insurance.api.security.domain.Scope;
+
+/**
+ * Tabela de decisão de acesso compilada a partir de Resource, ResourceScope e Scope. Cada scope
+ * ocupa a posição de bit do seu bitIndex e cada (método, urn) guarda a máscara dos scopes
+ * permitidos, então a validação de um token com máscara é uma busca na árvore de rotas do método e
+ * um AND, sem ir ao banco. A urn do Resource pode ter parâmetros e curingas (ver RouteTrie).
+ * 
+ * Imutável: uma alteração nas tabelas gera uma nova instância, que substitui a anterior.
+ */
+public final class AccessDecisionTable {
+
+	private final long version;
+	private final Map<String, Integer> scopeBits;
+	private final Map<String, Integer> stableBits;
+	private final Map<String, RouteTrie<ResourceRule>> rulesByMethod;
+
+	private AccessDecisionTable(long version, Map<String, Integer> scopeBits, Map<String, Integer> stableBits,
+			Map<String, RouteTrie<ResourceRule>> rulesByMethod) {
+		this.version = version;
+		this.scopeBits = scopeBits;
+		this.stableBits = stableBits;
+		this.rulesByMethod = rulesByMethod;
+	}
+
+	public static AccessDecisionTable empty() {
+		return new AccessDecisionTable(0, Map.of(), Map.of(), Map.of());
+	}
+
+	public static AccessDecisionTable compile(List<Scope> scopes, List<Resource> resources,
+			List<ResourceScope> grants, long version) {
+		// scopes ainda sem bitIndex recebem posições provisórias depois das estáveis e ficam fora da máscara do token
+		int provisional = scopes.stream().map(Scope::getBitIndex).filter(Objects::nonNull).mapToInt(Integer::intValue)
+				.max().orElse(-1) + 1;
+		Map<String, Integer> scopeBits = new HashMap<>();
+		Map<String, Integer> stableBits = new HashMap<>();
+		Map<Integer, Integer> bitsByScopeId = new HashMap<>();
+		for (Scope scope : scopes.stream().sorted(Comparator.comparing(Scope::getId)).collect(Collectors.toList())) {
+			Integer bit = scopeBits.get(scope.getName());
+			if (bit == null) {
+				bit = scope.getBitIndex() != null ? scope.getBitIndex() : provisional++;
+				scopeBits.put(scope.getName(), bit);
+				if (scope.getBitIndex() != null)
+					stableBits.put(scope.getName(), bit);
+			}
+			bitsByScopeId.put(scope.getId(), bit);
+		}
+
+		Map<Integer, BitSet> allowedByResourceId = new HashMap<>();
+		for (ResourceScope grant : grants) {
+			Integer bit = bitsByScopeId.get(grant.getScope().getId());
+			if (bit != null)
+				allowedByResourceId.computeIfAbsent(grant.getResource().getId(), id -> new BitSet()).set(bit);
+		}
+
+		Map<String, RouteTrie<ResourceRule>> rulesByMethod = new HashMap<>();
+		// mesmo critério da consulta anterior: havendo duplicidade, vale o primeiro resource
+		resources.stream().sorted(Comparator.comparing(Resource::getId)).forEach(resource -> {
+			if (resource.getHttpMethod() == null || resource.getUrn() == null)
+				return;
+			BitSet allowed = allowedByResourceId.getOrDefault(resource.getId(), new BitSet());
+			rulesByMethod.computeIfAbsent(resource.getHttpMethod(), method -> new RouteTrie<>())
+					.insert(resource.getUrn(), new ResourceRule(resource.getUrn(), resource.getHttpMethod(),
+							resource.getService(), allowed, scopeBits));
+		});
+
+		return new AccessDecisionTable(version, Map.copyOf(scopeBits), Map.copyOf(stableBits),
+				Map.copyOf(rulesByMethod));
+	}
+
+	/**
+	 * Regra do recurso ou null quando (método, urn) não está cadastrado.
+	 */
+	public ResourceRule find(String method, String urn) {
+		if (method == null || urn == null)
+			return null;
+		RouteTrie<ResourceRule> rules = rulesByMethod.get(method);
+		return rules == null ? null : rules.find(urn);
+	}
+
+	public Integer bitOf(String scope) {
+		return scopeBits.get(scope);
+	}
+
+	/**
+	 * Máscara dos scopes para o claim do token, ou null se algum scope ainda não tiver bitIndex; nesse
+	 * caso o token é validado pelos nomes.
+	 */
+	public long[] maskOf(Collection<String> scopes) {
+		BitSet mask = new BitSet();
+		for (String scope : scopes) {
+			Integer bit = stableBits.get(scope);
+			if (bit == null)
+				return null;
+			mask.set(bit);
+		}
+		return mask.toLongArray();
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public int size() {
+		return rulesByMethod.values().stream().mapToInt(RouteTrie::size).sum();
+	}
+
+	public static final class ResourceRule {
+
+		private final String urn;
+		private final String httpMethod;
+		private final String service;
+		private final BitSet allowedScopes;
+		private final long[] allowedMask;
+		private final Map<String, Integer> scopeBits;
+
+		private ResourceRule(String urn, String httpMethod, String service, BitSet allowedScopes,
+				Map<String, Integer> scopeBits) {
+			this.urn = urn;
+			this.httpMethod = httpMethod;
+			this.service = service;
+			this.allowedScopes = allowedScopes;
+			this.allowedMask = allowedScopes.toLongArray();
+			this.scopeBits = scopeBits;
+		}
+
+		/**
+		 * Até 64 scopes a máscara ocupa uma palavra e a decisão é um único AND.
+		 */
+		public boolean allows(long[] mask) {
+			int words = Math.min(mask.length, allowedMask.length);
+			for (int i = 0; i < words; i++) {
+				if ((mask[i] & allowedMask[i]) != 0)
+					return true;
+			}
+			return false;
+		}
+
+		public boolean allows(Collection<String> scopes) {
+			for (String scope : scopes) {
+				Integer bit = scopeBits.get(scope);
+				if (bit != null && allowedScopes.get(bit))
+					return true;
+			}
+			return false;
+		}
+
+		public String getUrn() {
+			return urn;
+		}
+
+		public String getHttpMethod() {
+			return httpMethod;
+		}
+
+		public String getService() {
+			return service;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.car.insurance.api.security.authorization;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Árvore de rotas por segmento de caminho. Aceita nos padrões:
+ * <ul>
+ * <li>segmentos literais: {@code /api/v1/insurance/budget}</li>
+ * <li>{@code {nome}} ou {@code *}: exatamente um segmento qualquer</li>
+ * <li>{@code **} no final: zero ou mais segmentos (no meio do padrão vale como {@code *})</li>
+ * </ul>
+ * A busca percorre um nó por segmento, então o custo depende da profundidade do caminho e não da
+ * quantidade de rotas. Em cada nível o literal tem precedência sobre o parâmetro, que tem
+ * precedência sobre o {@code **}.
+ * 
+ * Caminhos que o serviço de destino pode normalizar para outro recurso não casam com nenhuma rota:
+ * segmentos {@code .} e {@code ..}, ponto, barra ou barra invertida codificados, {@code %25} e
+ * {@code ;}. Sem isso {@code /fipe/../../admin} casaria com {@code /fipe/**}.
+ */
+final class RouteTrie<T> {
+
+	private static final String CATCH_ALL = "**";
+
+	private final Node<T> root = new Node<>();
+	private int size;
+
+	/**
+	 * Registra a rota, mantendo a anterior se já houver uma com o mesmo formato.
+	 */
+	void insert(String pattern, T value) {
+		List<String> segments = segments(pattern);
+		Node<T> node = root;
+		for (int i = 0; i < segments.size(); i++) {
+			String segment = segments.get(i);
+			if (CATCH_ALL.equals(segment) && i == segments.size() - 1) {
+				if (node.catchAll == null) {
+					node.catchAll = value;
+					size++;
+				}
+				return;
+			}
+			if (isParameter(segment)) {
+				if (node.parameter == null)
+					node.parameter = new Node<>();
+				node = node.parameter;
+			} else {
+				node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+			}
+		}
+		if (node.value == null) {
+			node.value = value;
+			size++;
+		}
+	}
+
+	T find(String path) {
+		List<String> segments = segments(path);
+		for (String segment : segments) {
+			if (isAmbiguous(segment))
+				return null;
+		}
+		return find(root, segments, 0);
+	}
+
+	int size() {
+		return size;
+	}
+
+	private T find(Node<T> node, List<String> segments, int index) {
+		if (index == segments.size())
+			return node.value != null ? node.value : node.catchAll;
+
+		Node<T> literal = node.literals.get(segments.get(index));
+		if (literal != null) {
+			T found = find(literal, segments, index + 1);
+			if (found != null)
+				return found;
+		}
+		if (node.parameter != null) {
+			T found = find(node.parameter, segments, index + 1);
+			if (found != null)
+				return found;
+		}
+		return node.catchAll;
+	}
+
+	private static boolean isParameter(String segment) {
+		return "*".equals(segment) || CATCH_ALL.equals(segment)
+				|| (segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}');
+	}
+
+	private static boolean isAmbiguous(String segment) {
+		if (".".equals(segment) || "..".equals(segment))
+			return true;
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (c == ';' || c == '\\')
+				return true;
+			if (c == '%' && i + 2 < segment.length()
+					&& isEncodedSeparator(segment.charAt(i + 1), segment.charAt(i + 2)))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * %2e (ponto), %2f (barra), %5c (barra invertida) e %25, que pode esconder qualquer um deles
+	 * em uma segunda decodificação.
+	 */
+	private static boolean isEncodedSeparator(char high, char low) {
+		char lower = Character.toLowerCase(low);
+		return (high == '2' && (lower == 'e' || lower == 'f' || lower == '5')) || (high == '5' && lower == 'c');
+	}
+
+	/**
+	 * Segmentos não vazios do caminho, ignorando a query string e barras repetidas.
+	 */
+	private static List<String> segments(String path) {
+		List<String> segments = new ArrayList<>();
+		int end = path.indexOf('?');
+		if (end < 0)
+			end = path.length();
+
+		int start = 0;
+		while (start < end) {
+			int slash = path.indexOf('/', start);
+			if (slash < 0 || slash > end)
+				slash = end;
+			if (slash > start)
+				segments.add(path.substring(start, slash));
+			start = slash + 1;
+		}
+		return segments;
+	}
+
+	private static final class Node<T> {
+		private final Map<String, Node<T>> literals = new HashMap<>(4);
+		private Node<T> parameter;
+		private T value;
+		private T catchAll;
+	}
+}
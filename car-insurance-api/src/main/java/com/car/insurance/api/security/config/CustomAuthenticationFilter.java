@@ -1,9 +1,6 @@
 package com.car.insurance.api.security.config;
 
 import java.io.IOException;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.servlet.FilterChain;
@@ -12,17 +9,21 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.car.insurance.api.security.dto.TokenResponseDto;
+import com.car.insurance.api.security.exception.PasswordHashingUnavailableException;
+import com.car.insurance.api.security.service.RefreshTokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.Getter;
@@ -32,15 +33,16 @@ import lombok.Setter;
 @Setter
 public class CustomAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
-	private static final String ACCESS_TOKEN_KEY = "token";
-	private static final String ROLES_STRING = "roles";
 	private final SecurityProperties properties;
 	private final AuthenticationManager authenticationManager;
+	private final RefreshTokenService refreshTokenService;
 
 	@Autowired
-	public CustomAuthenticationFilter(AuthenticationManager authenticationManager, SecurityProperties properties) {
+	public CustomAuthenticationFilter(AuthenticationManager authenticationManager, SecurityProperties properties,
+			RefreshTokenService refreshTokenService) {
 		this.authenticationManager = authenticationManager;
 		this.properties = properties;
+		this.refreshTokenService = refreshTokenService;
 	}
 
 	@Override
@@ -56,21 +58,27 @@ public class CustomAuthenticationFilter extends UsernamePasswordAuthenticationFi
 	protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
 			Authentication authResult) throws IOException, ServletException {
 		User user = (User) authResult.getPrincipal();
-		Algorithm algorithm = Algorithm.HMAC256(properties.getTokenSecret());
-		String accessToken = JWT.create().withSubject(user.getUsername())
-				.withExpiresAt(new Date(System.currentTimeMillis() + durationInMinutes(10)))
-				.withIssuer(request.getRequestURL().toString())
-				.withClaim(ROLES_STRING,
-						user.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList()))
-				.sign(algorithm);
+		TokenResponseDto tokens = refreshTokenService.issue(user.getUsername(),
+				user.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList()),
+				request.getRequestURL().toString());
 
-		Map<String,String> token = new HashMap<>();
-		token.put(ACCESS_TOKEN_KEY, accessToken);
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-		new ObjectMapper().writeValue(response.getOutputStream(), token);
+		new ObjectMapper().writeValue(response.getOutputStream(), tokens);
 	}
 
-	private int durationInMinutes(int minutes) {
-		return minutes * 60 * 1000;
+	/**
+	 * Pool de hash de senha cheio não é credencial inválida: responde 503 para o cliente tentar
+	 * novamente.
+	 */
+	@Override
+	protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response,
+			AuthenticationException failed) throws IOException, ServletException {
+		if (!(failed instanceof PasswordHashingUnavailableException)) {
+			super.unsuccessfulAuthentication(request, response, failed);
+			return;
+		}
+		SecurityContextHolder.clearContext();
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getHashingRetryAfterSeconds()));
+		response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), failed.getMessage());
 	}
 }
@@ -1,9 +1,6 @@
 package com.car.insurance.api.security.config;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Objects;
 
 import javax.servlet.FilterChain;
@@ -13,12 +10,12 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.car.insurance.api.security.domain.VerifiedToken;
 import com.car.insurance.api.security.service.TokenService;
 
 import lombok.AllArgsConstructor;
@@ -39,17 +36,12 @@ public class CustomAuthorizationFilter extends OncePerRequestFilter {
 			try {
 				String token = tokenService.splitToken(authorizationHeader);
 
-				if (tokenService.isBlackListed(token))
+				VerifiedToken verified = tokenService.verify(token);
+				if (tokenService.isRevoked(verified))
 					throw new HttpClientErrorException(HttpStatus.FORBIDDEN, "Token não é válido");
 
-				String username = tokenService.getUserNameFromToken(token);
-				String[] roles = tokenService.getRolesFromToken(token);
-
-				Collection<SimpleGrantedAuthority> authorities = new ArrayList<>();
-				Arrays.stream(roles).forEach(role -> authorities.add(new SimpleGrantedAuthority(role)));
-
-				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, null,
-						authorities);
+				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(verified, null,
+						verified.getAuthorities());
 				SecurityContextHolder.getContext().setAuthentication(authToken);
 				filterChain.doFilter(request, response);
 			} catch (Exception ex) {
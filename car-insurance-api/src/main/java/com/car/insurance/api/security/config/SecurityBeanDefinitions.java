@@ -5,11 +5,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.car.insurance.api.security.service.impl.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class SecurityBeanDefinitions {
 
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(SecurityProperties properties, MeterRegistry meterRegistry) {
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), properties, meterRegistry);
 	}
 }
@@ -9,9 +9,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.signing.KeyMaterial;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -20,9 +23,10 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
 	private final UserDetailsService userDetailService;
-	private final BCryptPasswordEncoder bCryptPasswordEncoder;
+	private final PasswordEncoder passwordEncoder;
 	private final SecurityProperties properties;
 	private final CustomAuthorizationFilter customAuthorizationFilter;
+	private final RefreshTokenService refreshTokenService;
 
 	@Bean
 	@Override
@@ -32,23 +36,28 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
 	@Override
 	protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-		auth.userDetailsService(userDetailService).passwordEncoder(bCryptPasswordEncoder);
+		auth.userDetailsService(userDetailService).passwordEncoder(passwordEncoder);
 	}
 
 	@Override
 	protected void configure(HttpSecurity http) throws Exception {
 		CustomAuthenticationFilter customAuthenticationFilter = new CustomAuthenticationFilter(
-				authenticationManagerBean(), properties);
+				authenticationManagerBean(), properties, refreshTokenService);
 		customAuthenticationFilter.setFilterProcessesUrl("/api/v1/login");
 
 		http.csrf().disable();
 		http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS).and().headers().frameOptions()
 				.sameOrigin();
-		http.authorizeRequests().antMatchers("/h2-console").permitAll();
-		http.authorizeRequests().antMatchers("/h2-console/**").permitAll();
+		// com chaves assimétricas o banco guarda as chaves de assinatura; o console não fica aberto
+		if (KeyMaterial.HS256.equals(properties.getSigningAlgorithm())) {
+			http.authorizeRequests().antMatchers("/h2-console").permitAll();
+			http.authorizeRequests().antMatchers("/h2-console/**").permitAll();
+		}
 		http.authorizeRequests().antMatchers("/api/v1/login/**").permitAll();
 		http.authorizeRequests().antMatchers("/api/v1/validate-token/**").permitAll();
 		http.authorizeRequests().antMatchers("/api/v1/signup/**").permitAll();
+		http.authorizeRequests().antMatchers("/api/v1/token/**").permitAll();
+		http.authorizeRequests().antMatchers("/api/v1/.well-known/**").permitAll();
 		// http.authorizeRequests().antMatchers("/api/v1/insurance/**").hasAuthority();
 		http.authorizeRequests().anyRequest().authenticated();
 		http.addFilter(customAuthenticationFilter);
@@ -15,4 +15,38 @@ public class SecurityProperties {
 	private String passwordField;
 	@Value("${token.secret.value}")
 	private String tokenSecret;
+	@Value("${token.signing.algorithm:HS256}")
+	private String signingAlgorithm;
+	@Value("${token.signing.key-encryption-secret:}")
+	private String signingKeyEncryptionSecret;
+	@Value("${token.signing.rotation-interval-hours:168}")
+	private long signingRotationIntervalHours;
+	@Value("${token.signing.jwks-max-age-seconds:300}")
+	private long jwksMaxAgeSeconds;
+	@Value("${token.access.ttl-minutes:10}")
+	private long accessTokenTtlMinutes;
+	@Value("${token.refresh.ttl-minutes:1440}")
+	private long refreshTokenTtlMinutes;
+	@Value("${token.verification-cache.max-size:10000}")
+	private long verifiedTokenCacheMaxSize;
+	@Value("${token.revocation.max-entries:100000}")
+	private int revocationMaxEntries;
+	@Value("${token.revocation.poll-batch-size:1000}")
+	private int revocationPollBatchSize;
+	@Value("${token.revocation.gap-timeout-ms:10000}")
+	private long revocationGapTimeoutMs;
+	@Value("${token.validation.batch-max-size:100}")
+	private int validationBatchMaxSize;
+	@Value("${auth.scope-cache.max-size:1000}")
+	private long scopeCacheMaxSize;
+	@Value("${auth.scope-cache.expire-after-write-minutes:5}")
+	private long scopeCacheExpireAfterWriteMinutes;
+	@Value("${password.hashing.pool-size:4}")
+	private int hashingPoolSize;
+	@Value("${password.hashing.queue-capacity:50}")
+	private int hashingQueueCapacity;
+	@Value("${password.hashing.timeout-ms:5000}")
+	private long hashingTimeoutMs;
+	@Value("${password.hashing.retry-after-seconds:1}")
+	private int hashingRetryAfterSeconds;
 }
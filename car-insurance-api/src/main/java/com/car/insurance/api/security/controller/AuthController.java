@@ -1,9 +1,14 @@
 package com.car.insurance.api.security.controller;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,11 +16,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.car.insurance.api.security.config.SecurityProperties;
 import com.car.insurance.api.security.domain.User;
+import com.car.insurance.api.security.dto.RefreshTokenRequestDto;
+import com.car.insurance.api.security.dto.TokenResponseDto;
 import com.car.insurance.api.security.dto.UserDto;
+import com.car.insurance.api.security.dto.ValidateTokenBatchRequestDto;
 import com.car.insurance.api.security.dto.ValidateTokenRequestDto;
 import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
 import com.car.insurance.api.security.service.AuthService;
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.service.SigningKeyService;
 
 @RestController
 @RequestMapping(value = "/api/v1")
@@ -24,6 +35,15 @@ public class AuthController {
 	@Autowired
 	private AuthService service;
 
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Autowired
+	private SigningKeyService signingKeyService;
+
+	@Autowired
+	private SecurityProperties properties;
+
 	@PostMapping("/login")
 	public ResponseEntity<String> logIn(HttpServletRequest request) {
 		//service.logout(request);
@@ -36,6 +56,24 @@ public class AuthController {
 		return ResponseEntity.ok().body("Usuário deslogado com sucesso.");
 	}
 
+	@PostMapping("/token/refresh")
+	public ResponseEntity<TokenResponseDto> refresh(@RequestBody RefreshTokenRequestDto refreshRequest,
+			HttpServletRequest request) throws Exception {
+		TokenResponseDto response = refreshTokenService.refresh(refreshRequest.getRefreshToken(),
+				request.getRequestURL().toString());
+		return ResponseEntity.ok().body(response);
+	}
+
+	/**
+	 * Chaves públicas para os demais serviços verificarem os tokens localmente.
+	 */
+	@GetMapping("/.well-known/jwks.json")
+	public ResponseEntity<Map<String, Object>> jwks() {
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.maxAge(properties.getJwksMaxAgeSeconds(), TimeUnit.SECONDS).cachePublic())
+				.body(signingKeyService.jwks());
+	}
+
 	@PostMapping("/signup")
 	public ResponseEntity<User> signUp(@Valid @RequestBody UserDto userDto) throws Exception {
 		User userCreated = service.signUpUser(userDto);
@@ -48,4 +86,11 @@ public class AuthController {
 		ValidateTokenResponseDto response = service.validateAccess(request);
 		return ResponseEntity.ok().body(response);
 	}
+
+	@PostMapping("/validate-token/batch")
+	public ResponseEntity<List<ValidateTokenResponseDto>> validateAuthorizationBatch(
+			@RequestBody ValidateTokenBatchRequestDto request) throws Exception {
+		List<ValidateTokenResponseDto> response = service.validateAccess(request);
+		return ResponseEntity.ok().body(response);
+	}
 }
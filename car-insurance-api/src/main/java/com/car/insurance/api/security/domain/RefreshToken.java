@@ -0,0 +1,42 @@
+package com.car.insurance.api.security.domain;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Refresh token emitido, identificado pelo jti. Todos os tokens de uma mesma sessão compartilham a
+ * família; cada um só pode ser usado uma vez, e o reuso de um token já trocado revoga a família.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "refresh_token", indexes = {
+		@Index(name = "idx_refresh_token_family", columnList = "family"),
+		@Index(name = "idx_refresh_token_expires_at", columnList = "expires_at") })
+public class RefreshToken {
+
+	@Id
+	private String jti;
+
+	@Column(nullable = false)
+	private String family;
+
+	private String subject;
+
+	@Column(nullable = false)
+	private Instant expiresAt;
+
+	private Boolean used;
+
+	private Boolean revoked;
+}
@@ -2,9 +2,12 @@ package com.car.insurance.api.security.domain;
 
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.ManyToOne;
 import javax.persistence.MapsId;
 
+import com.car.insurance.api.security.listener.AccessDecisionListener;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -15,6 +18,7 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@EntityListeners(AccessDecisionListener.class)
 public class ResourceScope {
 
 	@EmbeddedId
@@ -3,12 +3,17 @@ package com.car.insurance.api.security.domain;
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 
+import com.car.insurance.api.security.listener.AccessDecisionListener;
+import com.car.insurance.api.security.listener.ScopeCacheListener;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,13 +24,26 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@EntityListeners({ AccessDecisionListener.class, ScopeCacheListener.class })
 public class Scope {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Integer id;
 	private String name;
+
+	/**
+	 * Posição do scope na máscara do token. Atribuída uma única vez pelo AccessDecisionService, a
+	 * partir do ScopeBitCounter, e nunca alterada pelo mapeamento nem reusada por outro scope, para
+	 * que as máscaras já emitidas continuem válidas.
+	 */
+	@Column(unique = true, insertable = false, updatable = false)
+	private Integer bitIndex;
 	
 	@OneToMany(mappedBy = "scope")
     private Set<ResourceScope> resources = new HashSet<ResourceScope>();
+
+	public Scope(Integer id, String name, Set<ResourceScope> resources) {
+		this(id, name, null, resources);
+	}
 }
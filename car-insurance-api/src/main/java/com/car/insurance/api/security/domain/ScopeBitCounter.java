@@ -0,0 +1,30 @@
+package com.car.insurance.api.security.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Próximo bitIndex a ser atribuído a um Scope. Só avança, então a posição de um scope removido
+ * nunca é dada a outro enquanto ainda houver tokens com a máscara antiga.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "scope_bit_counter")
+public class ScopeBitCounter {
+
+	public static final String SCOPE = "scope";
+
+	@Id
+	private String id;
+
+	@Column(nullable = false)
+	private Integer nextBitIndex;
+}
@@ -0,0 +1,54 @@
+package com.car.insurance.api.security.domain;
+
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Par de chaves de assinatura de tokens, compartilhado entre as instâncias. A chave é publicada no
+ * JWKS desde a criação, passa a assinar em activatesAt e continua válida para verificação até
+ * retiresAt, quando todos os tokens assinados por ela já expiraram.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "signing_key")
+public class SigningKey {
+
+	@Id
+	private String kid;
+
+	@Column(nullable = false)
+	private String algorithm;
+
+	/**
+	 * X.509 (SubjectPublicKeyInfo) em Base64.
+	 */
+	@Lob
+	@Column(nullable = false)
+	private String publicKey;
+
+	/**
+	 * PKCS#8 em Base64, cifrado pelo PrivateKeyCipher.
+	 */
+	@Lob
+	@Column(nullable = false)
+	private String privateKey;
+
+	@Column(nullable = false)
+	private Instant createdAt;
+
+	@Column(nullable = false)
+	private Instant activatesAt;
+
+	private Instant retiresAt;
+}
@@ -0,0 +1,87 @@
+package com.car.insurance.api.security.domain;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.car.insurance.api.security.service.TokenService;
+
+import lombok.Getter;
+
+/**
+ * Token já verificado, com as authorities montadas uma única vez. Fica no cache de tokens
+ * verificados e é usado como principal da requisição.
+ */
+@Getter
+public class VerifiedToken implements Principal {
+
+	private static final int MAX_INTERNED_AUTHORITIES = 1024;
+
+	/**
+	 * Authorities compartilhadas pelos tokens com o mesmo conjunto de scopes. Acima do limite os
+	 * conjuntos novos são montados por token, sem entrar no mapa.
+	 */
+	private static final ConcurrentMap<List<String>, List<SimpleGrantedAuthority>> INTERNED_AUTHORITIES =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * jti do token ou, na falta dele, o SHA-256 do token. Identifica o token na revogação.
+	 */
+	private final String id;
+	private final String subject;
+	/**
+	 * Família do refresh token emitido no mesmo login; nula em tokens sem refresh.
+	 */
+	private final String family;
+	private final List<String> roles;
+	/**
+	 * Claim roles_mask; nula em tokens emitidos antes de os scopes terem bitIndex.
+	 */
+	private final long[] scopeMask;
+	private final List<SimpleGrantedAuthority> authorities;
+	private final Instant expiresAt;
+	private final DecodedJWT decoded;
+
+	public VerifiedToken(String tokenHash, DecodedJWT decoded) {
+		List<String> tokenRoles = decoded.getClaim(TokenService.ROLES_CLAIM).asList(String.class);
+		this.id = decoded.getId() != null ? decoded.getId() : tokenHash;
+		this.subject = decoded.getSubject();
+		this.family = decoded.getClaim(TokenService.FAMILY_CLAIM).asString();
+		Long[] mask = decoded.getClaim(TokenService.ROLES_MASK_CLAIM).asArray(Long.class);
+		this.roles = tokenRoles == null ? List.of() : List.copyOf(tokenRoles);
+		this.scopeMask = mask == null ? null : Arrays.stream(mask).mapToLong(Long::longValue).toArray();
+		this.authorities = authoritiesOf(this.roles);
+		this.expiresAt = decoded.getExpiresAtAsInstant();
+		this.decoded = decoded;
+	}
+
+	private static List<SimpleGrantedAuthority> authoritiesOf(List<String> roles) {
+		List<SimpleGrantedAuthority> interned = INTERNED_AUTHORITIES.get(roles);
+		if (interned != null)
+			return interned;
+
+		List<SimpleGrantedAuthority> authorities = roles.stream().map(SimpleGrantedAuthority::new)
+				.collect(Collectors.toUnmodifiableList());
+		if (INTERNED_AUTHORITIES.size() >= MAX_INTERNED_AUTHORITIES)
+			return authorities;
+		List<SimpleGrantedAuthority> previous = INTERNED_AUTHORITIES.putIfAbsent(roles, authorities);
+		return previous != null ? previous : authorities;
+	}
+
+	@Override
+	public String getName() {
+		return subject;
+	}
+
+	@Override
+	public String toString() {
+		return subject;
+	}
+}
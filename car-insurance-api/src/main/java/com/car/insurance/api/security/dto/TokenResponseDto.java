@@ -0,0 +1,18 @@
+package com.car.insurance.api.security.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class TokenResponseDto {
+
+	private String token;
+	private String refreshToken;
+}
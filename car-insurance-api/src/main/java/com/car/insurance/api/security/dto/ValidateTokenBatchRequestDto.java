@@ -0,0 +1,21 @@
+package com.car.insurance.api.security.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lote de validações. O token de cada item é opcional; quando ausente vale o token do lote.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidateTokenBatchRequestDto {
+
+	private String token;
+	private List<ValidateTokenRequestDto> requests;
+}
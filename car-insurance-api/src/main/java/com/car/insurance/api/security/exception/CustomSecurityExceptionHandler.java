@@ -1,17 +1,23 @@
 package com.car.insurance.api.security.exception;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.car.insurance.api.security.config.SecurityProperties;
 import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
 
 @ControllerAdvice
 public class CustomSecurityExceptionHandler extends ResponseEntityExceptionHandler {
 
-	@ExceptionHandler({ PasswordsDontMatchException.class })
+	@Autowired
+	private SecurityProperties properties;
+
+	@ExceptionHandler({ PasswordsDontMatchException.class, ValidateTokenBatchTooLargeException.class })
 	public ResponseEntity<String> handleInvalidParameters(Exception ex) {
 		String errorMessage = ex.getMessage();
 		return ResponseEntity.badRequest().body(errorMessage);
@@ -23,6 +29,20 @@ public class CustomSecurityExceptionHandler extends ResponseEntityExceptionHandl
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorMessage);
 	}
 
+	@ExceptionHandler({ InvalidRefreshTokenException.class })
+	public ResponseEntity<String> unauthorizedException(Exception ex) {
+		String errorMessage = ex.getMessage();
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorMessage);
+	}
+
+	@ExceptionHandler({ PasswordHashingUnavailableException.class })
+	public ResponseEntity<String> unavailableException(Exception ex) {
+		String errorMessage = ex.getMessage();
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getHashingRetryAfterSeconds()))
+				.body(errorMessage);
+	}
+
 	@ExceptionHandler(AuthException.class)
 	public ResponseEntity<ValidateTokenResponseDto> handleResourceNotAllowsScopeException(AuthException ex) {
 		return ResponseEntity.status(ex.getHttpStatus()).body(ValidateTokenResponseDto.builder()
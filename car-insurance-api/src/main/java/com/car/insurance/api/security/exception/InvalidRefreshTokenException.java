@@ -0,0 +1,13 @@
+package com.car.insurance.api.security.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidRefreshTokenException extends Exception {
+	private static final long serialVersionUID = 6027712659385126411L;
+	private String message;
+
+	public InvalidRefreshTokenException(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,17 @@
+package com.car.insurance.api.security.exception;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * Pool de hash de senha sem capacidade para a requisição. Estende
+ * InternalAuthenticationServiceException para que o ProviderManager a propague sem tentar outros
+ * providers e o filtro de login possa responder 503 em vez de credenciais inválidas.
+ */
+public class PasswordHashingUnavailableException extends InternalAuthenticationServiceException {
+
+	private static final long serialVersionUID = -4190587268520631477L;
+
+	public PasswordHashingUnavailableException(String message) {
+		super(message);
+	}
+}
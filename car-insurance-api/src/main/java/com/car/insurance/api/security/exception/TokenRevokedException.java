@@ -0,0 +1,17 @@
+package com.car.insurance.api.security.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TokenRevokedException extends AuthException {
+
+	private static final long serialVersionUID = 3106972485730517424L;
+
+	public TokenRevokedException(String urn, String method, String client, String message) {
+		super(message, HttpStatus.UNAUTHORIZED, false, false, method, client, urn);
+	}
+}
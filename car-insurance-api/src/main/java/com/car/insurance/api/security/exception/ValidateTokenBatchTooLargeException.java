@@ -0,0 +1,13 @@
+package com.car.insurance.api.security.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ValidateTokenBatchTooLargeException extends Exception {
+	private static final long serialVersionUID = 3915471032278934120L;
+	private String message;
+
+	public ValidateTokenBatchTooLargeException(String message) {
+		this.message = message;
+	}
+}
@@ -0,0 +1,53 @@
+package com.car.insurance.api.security.listener;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.car.insurance.api.security.service.AccessDecisionService;
+
+/**
+ * Recompila a tabela de acesso quando um Resource, ResourceScope ou Scope muda. A recompilação
+ * ocorre uma vez, após o commit, para que a tabela nunca reflita uma alteração desfeita.
+ */
+public class AccessDecisionListener {
+
+	private static final Object RELOAD_SCHEDULED = AccessDecisionListener.class.getName() + ".reload";
+
+	@Autowired
+	private ObjectProvider<AccessDecisionService> accessDecisionService;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChange(Object entity) {
+		AccessDecisionService service = accessDecisionService.getIfAvailable();
+		if (service == null)
+			return;
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			service.reload();
+			return;
+		}
+		if (TransactionSynchronizationManager.hasResource(RELOAD_SCHEDULED))
+			return;
+
+		TransactionSynchronizationManager.bindResource(RELOAD_SCHEDULED, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				service.reload();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(RELOAD_SCHEDULED);
+			}
+		});
+	}
+}
@@ -0,0 +1,41 @@
+package com.car.insurance.api.security.listener;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.car.insurance.api.security.service.ScopeLookupCache;
+
+/**
+ * Invalida o cache de scopes quando um Scope muda. A invalidação é repetida ao fim da transação
+ * para descartar o que outras requisições leram enquanto a alteração não estava confirmada.
+ */
+public class ScopeCacheListener {
+
+	@Autowired
+	private ObjectProvider<ScopeLookupCache> scopeLookupCache;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChange(Object entity) {
+		ScopeLookupCache cache = scopeLookupCache.getIfAvailable();
+		if (cache == null)
+			return;
+
+		cache.invalidateScopes();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.invalidateScopes();
+				}
+			});
+		}
+	}
+}
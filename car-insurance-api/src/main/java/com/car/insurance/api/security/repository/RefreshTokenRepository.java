@@ -0,0 +1,31 @@
+package com.car.insurance.api.security.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.security.domain.RefreshToken;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+	/**
+	 * Marca o token como usado apenas se ainda estiver livre; 0 indica reuso, revogação ou jti
+	 * desconhecido.
+	 */
+	@Modifying
+	@Query("update RefreshToken t set t.used = true where t.jti = :jti and t.used = false and t.revoked = false")
+	int markUsed(@Param("jti") String jti);
+
+	@Modifying
+	@Query("update RefreshToken t set t.revoked = true where t.family = :family")
+	int revokeFamily(@Param("family") String family);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RefreshToken t where t.expiresAt < :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -1,8 +1,14 @@
 package com.car.insurance.api.security.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.car.insurance.api.security.domain.ResourceScope;
 
 public interface ResourceScopeRepository extends JpaRepository<ResourceScope, Integer> {
+
+	@Query("select rs from ResourceScope rs join fetch rs.resource join fetch rs.scope")
+	List<ResourceScope> findAllWithResourceAndScope();
 }
@@ -0,0 +1,25 @@
+package com.car.insurance.api.security.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.security.domain.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+	boolean existsByTokenId(String tokenId);
+
+	List<RevokedToken> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	@Transactional
+	@Modifying
+	@Query("delete from RevokedToken r where r.expiresAt < :now")
+	int deleteExpired(@Param("now") Instant now);
+}
@@ -1,10 +1,19 @@
 package com.car.insurance.api.security.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.car.insurance.api.security.domain.Scope;
 
 public interface RoleRepository extends JpaRepository<Scope, Integer> {
 
 	Scope findByName(String name);
+
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update Scope s set s.bitIndex = :bitIndex where s.id = :id and s.bitIndex is null")
+	int assignBitIndex(@Param("id") Integer id, @Param("bitIndex") Integer bitIndex);
 }
@@ -0,0 +1,19 @@
+package com.car.insurance.api.security.repository;
+
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.car.insurance.api.security.domain.ScopeBitCounter;
+
+public interface ScopeBitCounterRepository extends JpaRepository<ScopeBitCounter, String> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select c from ScopeBitCounter c where c.id = :id")
+	Optional<ScopeBitCounter> lockById(@Param("id") String id);
+}
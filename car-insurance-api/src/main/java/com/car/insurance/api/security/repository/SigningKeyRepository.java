@@ -0,0 +1,26 @@
+package com.car.insurance.api.security.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.car.insurance.api.security.domain.SigningKey;
+
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+
+	@Query("select k from SigningKey k where k.algorithm = :algorithm and (k.retiresAt is null or k.retiresAt > :now) "
+			+ "order by k.activatesAt desc")
+	List<SigningKey> findValid(@Param("algorithm") String algorithm, @Param("now") Instant now);
+
+	@Modifying
+	@Query("update SigningKey k set k.retiresAt = :retiresAt where k.algorithm = :algorithm and k.retiresAt is null")
+	int retireAll(@Param("algorithm") String algorithm, @Param("retiresAt") Instant retiresAt);
+
+	@Modifying
+	@Query("delete from SigningKey k where k.retiresAt < :now")
+	int deleteRetired(@Param("now") Instant now);
+}
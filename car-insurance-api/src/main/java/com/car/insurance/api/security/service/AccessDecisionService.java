@@ -0,0 +1,13 @@
+package com.car.insurance.api.security.service;
+
+import com.car.insurance.api.security.authorization.AccessDecisionTable;
+
+public interface AccessDecisionService {
+
+	AccessDecisionTable currentTable();
+
+	/**
+	 * Recompila a tabela a partir do banco e a publica no lugar da atual.
+	 */
+	AccessDecisionTable reload();
+}
@@ -1,15 +1,20 @@
 package com.car.insurance.api.security.service;
 
+import java.util.List;
+
 import javax.servlet.http.HttpServletRequest;
 
 import com.car.insurance.api.security.domain.User;
 import com.car.insurance.api.security.dto.UserDto;
+import com.car.insurance.api.security.dto.ValidateTokenBatchRequestDto;
 import com.car.insurance.api.security.dto.ValidateTokenRequestDto;
 import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
 import com.car.insurance.api.security.exception.PasswordsDontMatchException;
 import com.car.insurance.api.security.exception.ResourceNotAllowsScopeException;
 import com.car.insurance.api.security.exception.ResourceNotFoundException;
+import com.car.insurance.api.security.exception.TokenRevokedException;
 import com.car.insurance.api.security.exception.UserNotFoundException;
+import com.car.insurance.api.security.exception.ValidateTokenBatchTooLargeException;
 
 public interface AuthService {
 	User signUpUser(UserDto userDto) throws PasswordsDontMatchException;
@@ -21,5 +26,8 @@ public interface AuthService {
 	void logout(HttpServletRequest request);
 
 	ValidateTokenResponseDto validateAccess(ValidateTokenRequestDto request)
-			throws ResourceNotFoundException, ResourceNotAllowsScopeException;
+			throws ResourceNotFoundException, ResourceNotAllowsScopeException, TokenRevokedException;
+
+	List<ValidateTokenResponseDto> validateAccess(ValidateTokenBatchRequestDto batch)
+			throws ValidateTokenBatchTooLargeException;
 }
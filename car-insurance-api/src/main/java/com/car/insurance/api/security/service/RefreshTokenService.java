@@ -0,0 +1,22 @@
+package com.car.insurance.api.security.service;
+
+import java.util.List;
+
+import com.car.insurance.api.security.dto.TokenResponseDto;
+import com.car.insurance.api.security.exception.InvalidRefreshTokenException;
+
+public interface RefreshTokenService {
+
+	/**
+	 * Abre uma nova família e emite o token de acesso e o refresh token do login.
+	 */
+	TokenResponseDto issue(String subject, List<String> roles, String issuer);
+
+	/**
+	 * Troca o refresh token por um novo par, sem consultar o usuário nem a senha. O refresh token
+	 * usado é invalidado; reapresentá-lo revoga toda a família.
+	 */
+	TokenResponseDto refresh(String refreshToken, String issuer) throws InvalidRefreshTokenException;
+
+	void revokeFamily(String family);
+}
@@ -0,0 +1,14 @@
+package com.car.insurance.api.security.service;
+
+import java.time.Instant;
+
+/**
+ * Onde ficam os tokens revogados no logoff. O id é o jti do token ou, na falta dele, o SHA-256 do
+ * token (ver VerifiedToken).
+ */
+public interface RevocationStore {
+
+	void revoke(String id, Instant expiresAt);
+
+	boolean isRevoked(String id);
+}
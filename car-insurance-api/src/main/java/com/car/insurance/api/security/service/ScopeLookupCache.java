@@ -0,0 +1,11 @@
+package com.car.insurance.api.security.service;
+
+public interface ScopeLookupCache {
+
+	/**
+	 * Id do Scope com o nome informado, ou nulo se não existir.
+	 */
+	Integer getScopeId(String name);
+
+	void invalidateScopes();
+}
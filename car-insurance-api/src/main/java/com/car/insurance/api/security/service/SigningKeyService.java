@@ -0,0 +1,29 @@
+package com.car.insurance.api.security.service;
+
+import java.util.Map;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.car.insurance.api.security.signing.SigningKeySet.ActiveKey;
+
+public interface SigningKeyService {
+
+	/**
+	 * Chave que assina os tokens emitidos agora. Em HS256 não há kid.
+	 */
+	ActiveKey signingKey();
+
+	/**
+	 * Algorithm de verificação que resolve a chave pública pelo kid do token.
+	 */
+	Algorithm verificationAlgorithm();
+
+	/**
+	 * Documento JWKS com as chaves públicas ainda válidas, incluindo a próxima a entrar em uso.
+	 */
+	Map<String, Object> jwks();
+
+	/**
+	 * Cria uma nova chave e programa a aposentadoria das atuais para quando seus tokens expirarem.
+	 */
+	void rotate();
+}
@@ -1,13 +1,47 @@
 package com.car.insurance.api.security.service;
 
+import java.time.Instant;
+import java.util.List;
+
 import javax.servlet.http.HttpServletRequest;
 
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Payload;
+import com.car.insurance.api.security.domain.VerifiedToken;
 
 public interface TokenService {
 
+	String ROLES_CLAIM = "roles";
+	String FAMILY_CLAIM = "fam";
+	/**
+	 * Máscara dos scopes pelo bitIndex, em palavras de 64 bits, emitida junto com os nomes.
+	 */
+	String ROLES_MASK_CLAIM = "roles_mask";
+	String TOKEN_USE_CLAIM = "token_use";
+	String REFRESH_TOKEN_USE = "refresh";
+
 	String splitToken(String authorizationHeaderValue);
 
+	/**
+	 * Verifica assinatura e validade do token uma única vez; verificações seguintes do mesmo token
+	 * saem do cache até o token expirar.
+	 */
+	VerifiedToken verify(String token);
+
+	/**
+	 * Token de acesso com jti próprio. A família liga o token ao refresh token da sessão, para que o
+	 * logoff revogue os dois.
+	 */
+	String issueAccessToken(String subject, List<String> roles, String issuer, String family);
+
+	String issueRefreshToken(String subject, List<String> roles, String issuer, String jti, String family,
+			Instant expiresAt);
+
+	/**
+	 * Apenas assinatura, validade e tipo; o controle de uso fica com o RefreshTokenService.
+	 */
+	DecodedJWT verifyRefreshToken(String token);
+
 	String getUserNameFromToken(String token);
 	
 	String getUserNameFromRequest(HttpServletRequest request);
@@ -16,6 +50,8 @@ public interface TokenService {
 
 	boolean isBlackListed(String token);
 
+	boolean isRevoked(VerifiedToken token);
+
 	void addToBlackList(String token);
 
 	Payload getTokenPayload(String token);
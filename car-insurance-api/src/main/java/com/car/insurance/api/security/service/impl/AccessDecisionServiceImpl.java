@@ -0,0 +1,116 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.car.insurance.api.security.authorization.AccessDecisionTable;
+import com.car.insurance.api.security.domain.Resource;
+import com.car.insurance.api.security.domain.ResourceScope;
+import com.car.insurance.api.security.domain.Scope;
+import com.car.insurance.api.security.domain.ScopeBitCounter;
+import com.car.insurance.api.security.repository.ResourceRepository;
+import com.car.insurance.api.security.repository.ResourceScopeRepository;
+import com.car.insurance.api.security.repository.RoleRepository;
+import com.car.insurance.api.security.repository.ScopeBitCounterRepository;
+import com.car.insurance.api.security.service.AccessDecisionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class AccessDecisionServiceImpl implements AccessDecisionService {
+
+	@Autowired
+	private ResourceRepository resourceRepository;
+	@Autowired
+	private ResourceScopeRepository resourceScopeRepository;
+	@Autowired
+	private RoleRepository scopeRepository;
+	@Autowired
+	private ScopeBitCounterRepository bitCounterRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final AtomicReference<AccessDecisionTable> table = new AtomicReference<>(AccessDecisionTable.empty());
+
+	@Override
+	public AccessDecisionTable currentTable() {
+		return table.get();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		reload();
+	}
+
+	/**
+	 * Alterações feitas por outra instância não passam pelo listener desta, então a tabela também é
+	 * recompilada periodicamente.
+	 */
+	@Scheduled(fixedDelayString = "${authorization.table.refresh-interval-ms:60000}",
+			initialDelayString = "${authorization.table.refresh-interval-ms:60000}")
+	public void refresh() {
+		reload();
+	}
+
+	/**
+	 * Em transação própria porque o listener chama após o commit, quando a transação original ainda
+	 * está associada à thread.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public synchronized AccessDecisionTable reload() {
+		List<Scope> scopes = scopeRepository.findAll();
+		if (assignBitIndexes(scopes))
+			scopes = scopeRepository.findAll();
+		List<Resource> resources = resourceRepository.findAll();
+		List<ResourceScope> grants = resourceScopeRepository.findAllWithResourceAndScope();
+
+		AccessDecisionTable compiled = AccessDecisionTable.compile(scopes, resources, grants,
+				table.get().getVersion() + 1);
+		table.set(compiled);
+		log.debug("Tabela de acesso versão {} carregada com {} recursos", compiled.getVersion(), compiled.size());
+		return compiled;
+	}
+
+	/**
+	 * Scopes novos recebem posições do contador scope_bit_counter, em ordem de id. O contador é
+	 * travado durante a atribuição e só avança, então posições de scopes removidos não são reusadas.
+	 * A atualização só grava se o scope ainda não tiver posição, então outra instância não
+	 * sobrescreve a atribuída.
+	 */
+	private boolean assignBitIndexes(List<Scope> scopes) {
+		List<Scope> unassigned = scopes.stream().filter(scope -> scope.getBitIndex() == null)
+				.sorted(Comparator.comparing(Scope::getId)).collect(Collectors.toList());
+		if (unassigned.isEmpty())
+			return false;
+
+		int assignedMax = scopes.stream().map(Scope::getBitIndex).filter(Objects::nonNull)
+				.mapToInt(Integer::intValue).max().orElse(-1);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			ScopeBitCounter counter = bitCounterRepository.lockById(ScopeBitCounter.SCOPE)
+					.orElseGet(() -> new ScopeBitCounter(ScopeBitCounter.SCOPE, 0));
+			int next = Math.max(counter.getNextBitIndex(), assignedMax + 1);
+			for (Scope scope : unassigned) {
+				if (scopeRepository.assignBitIndex(scope.getId(), next) == 1)
+					next++;
+			}
+			counter.setNextBitIndex(next);
+			bitCounterRepository.save(counter);
+		});
+		return true;
+	}
+}
@@ -2,7 +2,7 @@ package com.car.insurance.api.security.service.impl;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,28 +17,37 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import com.auth0.jwt.interfaces.Claim;
-import com.auth0.jwt.interfaces.Payload;
-import com.car.insurance.api.security.domain.Resource;
-import com.car.insurance.api.security.domain.ResourceScope;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.car.insurance.api.security.authorization.AccessDecisionTable;
+import com.car.insurance.api.security.authorization.AccessDecisionTable.ResourceRule;
+import com.car.insurance.api.security.config.SecurityProperties;
 import com.car.insurance.api.security.domain.Scope;
 import com.car.insurance.api.security.domain.User;
+import com.car.insurance.api.security.domain.VerifiedToken;
 import com.car.insurance.api.security.dto.UserDto;
+import com.car.insurance.api.security.dto.ValidateTokenBatchRequestDto;
 import com.car.insurance.api.security.dto.ValidateTokenRequestDto;
 import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
+import com.car.insurance.api.security.exception.AuthException;
 import com.car.insurance.api.security.exception.PasswordsDontMatchException;
 import com.car.insurance.api.security.exception.ResourceNotAllowsScopeException;
 import com.car.insurance.api.security.exception.ResourceNotFoundException;
+import com.car.insurance.api.security.exception.TokenRevokedException;
 import com.car.insurance.api.security.exception.UserNotFoundException;
-import com.car.insurance.api.security.repository.ResourceRepository;
+import com.car.insurance.api.security.exception.ValidateTokenBatchTooLargeException;
 import com.car.insurance.api.security.repository.RoleRepository;
 import com.car.insurance.api.security.repository.UserRepository;
+import com.car.insurance.api.security.service.AccessDecisionService;
 import com.car.insurance.api.security.service.AuthService;
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.service.ScopeLookupCache;
 import com.car.insurance.api.security.service.TokenService;
 
 @Service
 public class AuthServiceImpl implements AuthService, UserDetailsService {
 
+	private static final String REVOKED_MESSAGE = "Token revogado.";
+
 	@Autowired
 	private UserRepository repository;
 	@Autowired
@@ -46,9 +55,15 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 	@Autowired
+	private ScopeLookupCache scopeLookupCache;
+	@Autowired
 	private TokenService tokenService;
 	@Autowired
-	private ResourceRepository resourceRepository;
+	private AccessDecisionService accessDecisionService;
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+	@Autowired
+	private SecurityProperties properties;
 
 	@Override
 	public User signUpUser(UserDto userDto) throws PasswordsDontMatchException {
@@ -62,7 +77,8 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
 		newUser.setName(userDto.getName());
 		newUser.setPassword(passwordEncoder.encode(userDto.getPassword()));
 
-		Scope scope = scopeRepository.findByName(userDto.getScope());
+		Integer scopeId = scopeLookupCache.getScopeId(userDto.getScope());
+		Scope scope = scopeId == null ? null : scopeRepository.getReferenceById(scopeId);
 
 		newUser.setRoles(Arrays.asList(scope));
 		return repository.save(newUser);
@@ -90,7 +106,7 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
 		if (user.isEmpty())
 			throw new UsernameNotFoundException("Usuário não encontrado na base de dados.");
 
-		Collection<SimpleGrantedAuthority> authorities = new ArrayList<>();
+		List<SimpleGrantedAuthority> authorities = new ArrayList<>();
 		user.get().getRoles().stream().forEach(role -> authorities.add(new SimpleGrantedAuthority(role.getName())));
 
 		return new org.springframework.security.core.userdetails.User(user.get().getEmail(), user.get().getPassword(),
@@ -110,56 +126,130 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
 
 	@Override
 	public void logout(HttpServletRequest request) {
-		tokenService.addToBlackList(request.getHeader("Authorization").substring("Bearer ".length()));
+		String token = request.getHeader("Authorization").substring("Bearer ".length());
+		tokenService.addToBlackList(token);
+		String family = tokenService.verify(token).getFamily();
+		if (family != null)
+			refreshTokenService.revokeFamily(family);
 	}
 
 	@Override
 	public ValidateTokenResponseDto validateAccess(ValidateTokenRequestDto request)
-			throws ResourceNotFoundException, ResourceNotAllowsScopeException {
-		Payload payload = tokenService.getTokenPayload(request.getToken());
+			throws ResourceNotFoundException, ResourceNotAllowsScopeException, TokenRevokedException {
+		VerifiedToken token = tokenService.verify(request.getToken());
+		if (tokenService.isRevoked(token))
+			throw new TokenRevokedException(request.getUrn(), request.getMethod(), token.getSubject(), REVOKED_MESSAGE);
+		return authorize(accessDecisionService.currentTable(), token, request);
+	}
+
+	/**
+	 * Cada token distinto é verificado, e consultado na revogação, uma vez e todos os itens são resolvidos contra a mesma versão
+	 * da tabela de acesso. Falhas de um item voltam na sua resposta, sem interromper o lote.
+	 */
+	@Override
+	public List<ValidateTokenResponseDto> validateAccess(ValidateTokenBatchRequestDto batch)
+			throws ValidateTokenBatchTooLargeException {
+		List<ValidateTokenRequestDto> requests = batch.getRequests() == null ? List.of() : batch.getRequests();
+		if (requests.size() > properties.getValidationBatchMaxSize())
+			throw new ValidateTokenBatchTooLargeException(String.format(
+					"O lote deve conter no máximo %d validações.", properties.getValidationBatchMaxSize()));
+
+		AccessDecisionTable table = accessDecisionService.currentTable();
+		Map<String, CheckedToken> tokens = new HashMap<>();
+		List<ValidateTokenResponseDto> responses = new ArrayList<>(requests.size());
+		for (ValidateTokenRequestDto request : requests) {
+			String token = request.getToken() != null ? request.getToken() : batch.getToken();
+			CheckedToken checked = token == null ? CheckedToken.INVALID
+					: tokens.computeIfAbsent(token, this::verifyQuietly);
+
+			if (checked.failure != null) {
+				responses.add(denied(request, null, false, checked.failure));
+				continue;
+			}
+			try {
+				responses.add(authorize(table, checked.token, request));
+			} catch (AuthException ex) {
+				responses.add(denied(request, checked.token.getSubject(), true, ex.getMessage()));
+			}
+		}
+		return responses;
+	}
+
+	private CheckedToken verifyQuietly(String token) {
+		try {
+			VerifiedToken verified = tokenService.verify(token);
+			return tokenService.isRevoked(verified) ? CheckedToken.REVOKED : new CheckedToken(verified, null);
+		} catch (JWTVerificationException ex) {
+			return CheckedToken.INVALID;
+		}
+	}
+
+	/**
+	 * Resultado da verificação de um token do lote: o token verificado ou o motivo da recusa.
+	 */
+	private static final class CheckedToken {
+
+		private static final CheckedToken INVALID = new CheckedToken(null,
+				"Token não informado, inválido ou expirado.");
+		private static final CheckedToken REVOKED = new CheckedToken(null, REVOKED_MESSAGE);
 
-		List<String> roles = getRolesInToken(payload);
-		List<Resource> resource = getResources(request, payload);
+		private final VerifiedToken token;
+		private final String failure;
 
-		validateTokenAuthorization(payload.getSubject(), roles, resource.get(0));
+		private CheckedToken(VerifiedToken token, String failure) {
+			this.token = token;
+			this.failure = failure;
+		}
+	}
+
+	private ValidateTokenResponseDto denied(ValidateTokenRequestDto request, String client, boolean authenticated,
+			String message) {
+		return ValidateTokenResponseDto.builder()
+				.authenticated(authenticated)
+				.authorized(false)
+				.method(request.getMethod())
+				.urn(request.getUrn())
+				.client(client)
+				.message(message)
+				.build();
+	}
+
+	private ValidateTokenResponseDto authorize(AccessDecisionTable table, VerifiedToken token,
+			ValidateTokenRequestDto request) throws ResourceNotFoundException, ResourceNotAllowsScopeException {
+		ResourceRule resource = getResource(table, request, token.getSubject());
+
+		validateTokenAuthorization(token, resource);
 
 		return ValidateTokenResponseDto.builder()
 				.authenticated(true)
 				.authorized(true)
 				.method(request.getMethod())
-				.service(resource.get(0).getService())
+				.service(resource.getService())
 				.urn(request.getUrn())
-				.client(payload.getSubject())
-				.message(String.format("User %s is allowed to perform %s on resource %s", payload.getSubject(), request.getMethod(), request.getUrn()))
+				.client(token.getSubject())
+				.message(String.format("User %s is allowed to perform %s on resource %s", token.getSubject(), request.getMethod(), request.getUrn()))
 				.build();
 	}
 
-	private void validateTokenAuthorization(String client, List<String> roles, Resource resource) throws ResourceNotAllowsScopeException {
-		Optional<ResourceScope> scope = resource.getAllowedScopes().stream()
-				.filter(rs -> roles.contains(rs.getScope().getName())).findFirst();
-
-		if (scope.isEmpty())
-			throw new ResourceNotAllowsScopeException(resource.getUrn(),resource.getHttpMethod(), client, String.format(
+	private void validateTokenAuthorization(VerifiedToken token, ResourceRule resource) throws ResourceNotAllowsScopeException {
+		List<String> roles = token.getRoles();
+		boolean allowed = token.getScopeMask() != null ? resource.allows(token.getScopeMask()) : resource.allows(roles);
+		if (!allowed)
+			throw new ResourceNotAllowsScopeException(resource.getUrn(),resource.getHttpMethod(), token.getSubject(), String.format(
 					"Scope inside token is not allowed to perform %s on resource %s. Provided scopes were: %s",
 					resource.getHttpMethod(), resource.getUrn(), roles.toString()));
 	}
 
-	private List<String> getRolesInToken(Payload payload) {
-		Map<String, Claim> claims = payload.getClaims();
-		List<String> roles = claims.get("roles").asList(String.class);
-		return roles;
-	}
-
-	private List<Resource> getResources(ValidateTokenRequestDto request, Payload payload)
+	private ResourceRule getResource(AccessDecisionTable table, ValidateTokenRequestDto request, String client)
 			throws ResourceNotFoundException {
 		
-		List<Resource> resources = resourceRepository.findByUrnAndHttpMethod(request.getUrn(), request.getMethod());
+		ResourceRule resource = table.find(request.getMethod(), request.getUrn());
 
-		if (resources.isEmpty())
-			throw new ResourceNotFoundException(request.getUrn(),request.getMethod(), payload.getSubject(), 
+		if (resource == null)
+			throw new ResourceNotFoundException(request.getUrn(),request.getMethod(), client, 
 					String.format("Requested resource '%s' with method '%s' not found in database.", request.getUrn(), request.getMethod()));
 		
-		return resources;
+		return resource;
 	}
 
 }
@@ -0,0 +1,113 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.exception.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Executa o encoder de senha (BCrypt) em um pool próprio e limitado, fora das threads do Tomcat.
+ * Quando a fila enche a requisição é recusada na hora com PasswordHashingUnavailableException, em
+ * vez de ocupar o pool do conector e atrasar o restante do tráfego.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMs;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejected;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, SecurityProperties properties,
+			MeterRegistry meterRegistry) {
+		AtomicInteger threadCount = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		this.delegate = delegate;
+		this.executor = new ThreadPoolExecutor(properties.getHashingPoolSize(), properties.getHashingPoolSize(), 60,
+				TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getHashingQueueCapacity()), threadFactory,
+				new ThreadPoolExecutor.AbortPolicy());
+		this.executor.allowCoreThreadTimeOut(true);
+		this.timeoutMs = properties.getHashingTimeoutMs();
+
+		this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode")
+				.register(meterRegistry);
+		this.matchesTimer = Timer.builder("password.hashing.duration").tag("operation", "matches")
+				.register(meterRegistry);
+		this.rejected = Counter.builder("password.hashing.rejected").register(meterRegistry);
+		Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+				.register(meterRegistry);
+		Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(encodeTimer.wrap(() -> delegate.encode(rawPassword)));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(matchesTimer.wrap(() -> delegate.matches(rawPassword, encodedPassword)));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T run(Callable<T> hashing) {
+		Future<T> future;
+		try {
+			future = executor.submit(hashing);
+		} catch (RejectedExecutionException ex) {
+			rejected.increment();
+			throw new PasswordHashingUnavailableException("Serviço de autenticação sobrecarregado, tente novamente.");
+		}
+
+		try {
+			return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException ex) {
+			future.cancel(true);
+			rejected.increment();
+			throw new PasswordHashingUnavailableException("Tempo limite excedido ao validar a senha.");
+		} catch (InterruptedException ex) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new PasswordHashingUnavailableException("Validação da senha interrompida.");
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if (cause instanceof Error)
+				throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,134 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.service.RevocationStore;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tokens revogados no logoff, indexados pelo id do token e mantidos só até o exp de cada um.
+ * 
+ * A consulta passa antes por um filtro de Bloom: como quase nenhum token está revogado, a maioria
+ * das requisições responde ali sem tocar no mapa. O filtro não remove itens, então é reconstruído
+ * a partir do mapa quando tokens expiram. Ao atingir o limite de entradas, sai o token mais
+ * próximo de expirar, que é o que fica menos tempo utilizável se voltar a ser aceito.
+ * 
+ * Sozinho atende uma única instância; o JpaRevocationStore o usa como cache local das revogações
+ * gravadas no banco.
+ */
+@Slf4j
+public class InMemoryRevocationStore implements RevocationStore {
+
+	private static final int BLOOM_BITS_PER_ENTRY = 10;
+	private static final int BLOOM_HASHES = 7;
+
+	private final ConcurrentHashMap<String, Instant> revoked = new ConcurrentHashMap<>();
+	private final PriorityQueue<RevokedToken> byExpiry = new PriorityQueue<>(
+			Comparator.comparing((RevokedToken token) -> token.expiresAt));
+	private final int maxEntries;
+	private volatile BloomFilter filter;
+
+	public InMemoryRevocationStore(SecurityProperties properties) {
+		this.maxEntries = properties.getRevocationMaxEntries();
+		this.filter = new BloomFilter(maxEntries);
+	}
+
+	@Override
+	public synchronized void revoke(String id, Instant expiresAt) {
+		if (!expiresAt.isAfter(Instant.now()) || revoked.putIfAbsent(id, expiresAt) != null)
+			return;
+		byExpiry.add(new RevokedToken(id, expiresAt));
+		filter.add(id);
+
+		while (revoked.size() > maxEntries) {
+			RevokedToken evicted = byExpiry.poll();
+			revoked.remove(evicted.id);
+			log.warn("Limite de {} tokens revogados atingido, removendo o que expira em {}", maxEntries,
+					evicted.expiresAt);
+		}
+	}
+
+	@Override
+	public boolean isRevoked(String id) {
+		return filter.mightContain(id) && revoked.containsKey(id);
+	}
+
+	public int size() {
+		return revoked.size();
+	}
+
+	public synchronized void purgeExpired() {
+		Instant now = Instant.now();
+		int removed = 0;
+		while (!byExpiry.isEmpty() && !byExpiry.peek().expiresAt.isAfter(now)) {
+			revoked.remove(byExpiry.poll().id);
+			removed++;
+		}
+		if (removed == 0)
+			return;
+
+		BloomFilter rebuilt = new BloomFilter(maxEntries);
+		revoked.keySet().forEach(rebuilt::add);
+		filter = rebuilt;
+	}
+
+	@AllArgsConstructor
+	private static class RevokedToken {
+		private final String id;
+		private final Instant expiresAt;
+	}
+
+	private static class BloomFilter {
+
+		private final AtomicLongArray bits;
+		private final long size;
+
+		BloomFilter(int expectedEntries) {
+			int words = (int) Math.max(1, ((long) expectedEntries * BLOOM_BITS_PER_ENTRY + 63) / 64);
+			this.bits = new AtomicLongArray(words);
+			this.size = words * 64L;
+		}
+
+		void add(String id) {
+			long hash = hash(id);
+			int h1 = (int) hash;
+			int h2 = (int) (hash >>> 32);
+			for (int i = 0; i < BLOOM_HASHES; i++) {
+				long bit = Math.floorMod(h1 + (long) i * h2, size);
+				int word = (int) (bit >>> 6);
+				long mask = 1L << bit;
+				long current;
+				while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask))
+					;
+			}
+		}
+
+		boolean mightContain(String id) {
+			long hash = hash(id);
+			int h1 = (int) hash;
+			int h2 = (int) (hash >>> 32);
+			for (int i = 0; i < BLOOM_HASHES; i++) {
+				long bit = Math.floorMod(h1 + (long) i * h2, size);
+				if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+					return false;
+			}
+			return true;
+		}
+
+		private static long hash(String id) {
+			long hash = 0xcbf29ce484222325L;
+			for (int i = 0; i < id.length(); i++) {
+				hash ^= id.charAt(i);
+				hash *= 0x100000001b3L;
+			}
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.RevokedToken;
+import com.car.insurance.api.security.repository.RevokedTokenRepository;
+import com.car.insurance.api.security.service.RevocationStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revogações gravadas na tabela revoked_token e replicadas para um InMemoryRevocationStore local,
+ * de modo que a consulta por requisição não vai ao banco. Cada nó busca periodicamente só as linhas
+ * com id maior que o último visto.
+ * 
+ * Um id menor pode ser confirmado depois de um maior (transações concorrentes), então o cursor só
+ * avança por ids contíguos. Uma lacuna que não se resolve dentro de token.revocation.gap-timeout-ms
+ * é tratada como id perdido (rollback) e ignorada.
+ */
+@Slf4j
+@Component
+public class JpaRevocationStore implements RevocationStore {
+
+	private final RevokedTokenRepository repository;
+	private final InMemoryRevocationStore local;
+	private final int pollBatchSize;
+	private final Duration gapTimeout;
+
+	private long lastSeenId;
+	private boolean loaded;
+	private Instant gapSince;
+
+	@Autowired
+	public JpaRevocationStore(RevokedTokenRepository repository, SecurityProperties properties) {
+		this.repository = repository;
+		this.local = new InMemoryRevocationStore(properties);
+		this.pollBatchSize = properties.getRevocationPollBatchSize();
+		this.gapTimeout = Duration.ofMillis(properties.getRevocationGapTimeoutMs());
+	}
+
+	@Override
+	public void revoke(String id, Instant expiresAt) {
+		local.revoke(id, expiresAt);
+		if (repository.existsByTokenId(id))
+			return;
+		try {
+			repository.save(new RevokedToken(null, id, expiresAt));
+		} catch (DataIntegrityViolationException e) {
+			// outro nó gravou o mesmo token entre a consulta e o insert
+			log.debug("Token {} já revogado por outra instância", id);
+		}
+	}
+
+	@Override
+	public boolean isRevoked(String id) {
+		return local.isRevoked(id);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		poll();
+	}
+
+	@Scheduled(fixedDelayString = "${token.revocation.poll-interval-ms:1000}",
+			initialDelayString = "${token.revocation.poll-interval-ms:1000}")
+	public synchronized void poll() {
+		List<RevokedToken> rows;
+		do {
+			rows = repository.findByIdGreaterThanOrderByIdAsc(lastSeenId, PageRequest.of(0, pollBatchSize));
+			long cursor = lastSeenId;
+			for (RevokedToken row : rows) {
+				local.revoke(row.getTokenId(), row.getExpiresAt());
+				// na carga inicial as lacunas são linhas já expiradas e removidas
+				if (!loaded || row.getId() == cursor + 1 || gapExpired()) {
+					cursor = row.getId();
+					gapSince = null;
+				} else if (gapSince == null) {
+					gapSince = Instant.now();
+				}
+			}
+			if (cursor == lastSeenId)
+				break;
+			lastSeenId = cursor;
+		} while (rows.size() == pollBatchSize && gapSince == null);
+		loaded = true;
+	}
+
+	@Scheduled(fixedDelayString = "${token.revocation.purge-interval-ms:60000}")
+	public void purgeExpired() {
+		local.purgeExpired();
+		int removed = repository.deleteExpired(Instant.now());
+		if (removed > 0)
+			log.info("{} tokens revogados expirados removidos", removed);
+	}
+
+	private boolean gapExpired() {
+		return gapSince != null && Duration.between(gapSince, Instant.now()).compareTo(gapTimeout) > 0;
+	}
+}
@@ -0,0 +1,92 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.RefreshToken;
+import com.car.insurance.api.security.dto.TokenResponseDto;
+import com.car.insurance.api.security.exception.InvalidRefreshTokenException;
+import com.car.insurance.api.security.repository.RefreshTokenRepository;
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.service.TokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+	@Autowired
+	private TokenService tokenService;
+	@Autowired
+	private RefreshTokenRepository repository;
+	@Autowired
+	private SecurityProperties properties;
+
+	@Override
+	@Transactional
+	public TokenResponseDto issue(String subject, List<String> roles, String issuer) {
+		return issue(subject, roles, issuer, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * A troca é uma única atualização condicional (markUsed): duas requisições com o mesmo refresh
+	 * token não conseguem as duas gerar um novo par. A exceção é checked, então a revogação da
+	 * família é confirmada mesmo com o erro.
+	 */
+	@Override
+	@Transactional
+	public TokenResponseDto refresh(String refreshToken, String issuer) throws InvalidRefreshTokenException {
+		DecodedJWT decoded;
+		try {
+			decoded = tokenService.verifyRefreshToken(refreshToken);
+		} catch (JWTVerificationException ex) {
+			throw new InvalidRefreshTokenException("Refresh token inválido ou expirado.");
+		}
+
+		String family = decoded.getClaim(TokenService.FAMILY_CLAIM).asString();
+		if (decoded.getId() == null || family == null)
+			throw new InvalidRefreshTokenException("Refresh token inválido ou expirado.");
+
+		if (repository.markUsed(decoded.getId()) == 0) {
+			repository.revokeFamily(family);
+			log.warn("Refresh token {} reapresentado ou revogado, família {} revogada", decoded.getId(), family);
+			throw new InvalidRefreshTokenException("Refresh token já utilizado ou revogado.");
+		}
+
+		List<String> roles = decoded.getClaim(TokenService.ROLES_CLAIM).asList(String.class);
+		return issue(decoded.getSubject(), roles == null ? List.of() : roles, issuer, family);
+	}
+
+	@Override
+	@Transactional
+	public void revokeFamily(String family) {
+		repository.revokeFamily(family);
+	}
+
+	@Scheduled(fixedDelayString = "${token.refresh.purge-interval-ms:3600000}")
+	public void purgeExpired() {
+		int removed = repository.deleteExpired(Instant.now());
+		if (removed > 0)
+			log.info("{} refresh tokens expirados removidos", removed);
+	}
+
+	private TokenResponseDto issue(String subject, List<String> roles, String issuer, String family) {
+		String jti = UUID.randomUUID().toString();
+		Instant expiresAt = Instant.now().plus(Duration.ofMinutes(properties.getRefreshTokenTtlMinutes()));
+		repository.save(new RefreshToken(jti, family, subject, expiresAt, false, false));
+
+		return new TokenResponseDto(tokenService.issueAccessToken(subject, roles, issuer, family),
+				tokenService.issueRefreshToken(subject, roles, issuer, jti, family, expiresAt));
+	}
+}
@@ -0,0 +1,55 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.Scope;
+import com.car.insurance.api.security.repository.RoleRepository;
+import com.car.insurance.api.security.service.ScopeLookupCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache de ids de scopes por nome, usado pelo signup. Os scopes ausentes não são guardados.
+ * Usuários não ficam em cache: o login e o getLoggedUser leem o User do banco, então nenhum hash
+ * de senha fica retido em memória além da requisição.
+ */
+@Service
+public class ScopeLookupCacheImpl implements ScopeLookupCache {
+
+	private final RoleRepository scopeRepository;
+	private final Cache<String, Integer> scopes;
+
+	@Autowired
+	public ScopeLookupCacheImpl(RoleRepository scopeRepository, SecurityProperties properties,
+			MeterRegistry meterRegistry) {
+		this.scopeRepository = scopeRepository;
+		this.scopes = Caffeine.newBuilder()
+				.maximumSize(properties.getScopeCacheMaxSize())
+				.expireAfterWrite(properties.getScopeCacheExpireAfterWriteMinutes(), TimeUnit.MINUTES)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, scopes, "scopes");
+	}
+
+	@Override
+	public Integer getScopeId(String name) {
+		if (name == null)
+			return null;
+		return scopes.get(name, key -> {
+			Scope scope = scopeRepository.findByName(key);
+			return scope == null ? null : scope.getId();
+		});
+	}
+
+	@Override
+	public void invalidateScopes() {
+		scopes.invalidateAll();
+	}
+}
@@ -0,0 +1,200 @@
+package com.car.insurance.api.security.service.impl;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.SigningKey;
+import com.car.insurance.api.security.repository.SigningKeyRepository;
+import com.car.insurance.api.security.service.SigningKeyService;
+import com.car.insurance.api.security.signing.KeyMaterial;
+import com.car.insurance.api.security.signing.PrivateKeyCipher;
+import com.car.insurance.api.security.signing.SigningKeySet;
+import com.car.insurance.api.security.signing.SigningKeySet.ActiveKey;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chaves RS256/ES256 gravadas na tabela signing_key e compartilhadas entre as instâncias. Uma chave
+ * nova é publicada no JWKS token.signing.jwks-max-age-seconds antes de começar a assinar, para que os
+ * serviços com o JWKS em cache já a conheçam, e a anterior continua no JWKS até o último token que
+ * assinou expirar. As chaves privadas são gravadas cifradas (ver PrivateKeyCipher). Com
+ * token.signing.algorithm=HS256 mantém a assinatura pelo segredo compartilhado,
+ * sem JWKS.
+ */
+@Slf4j
+@Service
+public class SigningKeyServiceImpl implements SigningKeyService {
+
+	private static final Duration RELOAD_ON_MISS_INTERVAL = Duration.ofSeconds(5);
+
+	@Autowired
+	private SigningKeyRepository repository;
+	@Autowired
+	private SecurityProperties properties;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final AtomicReference<SigningKeySet> keys = new AtomicReference<>();
+	private volatile Instant newestCreatedAt = Instant.EPOCH;
+	private volatile Instant lastReloadOnMiss = Instant.EPOCH;
+
+	@Override
+	public ActiveKey signingKey() {
+		if (isHmac())
+			return new ActiveKey(null, Instant.EPOCH, Algorithm.HMAC256(properties.getTokenSecret()));
+		return keys().signingKey(Instant.now());
+	}
+
+	@Override
+	public Algorithm verificationAlgorithm() {
+		if (isHmac())
+			return Algorithm.HMAC256(properties.getTokenSecret());
+		if (KeyMaterial.ES256.equals(properties.getSigningAlgorithm()))
+			return Algorithm.ECDSA256(new ECDSAKeyProvider() {
+				@Override
+				public ECPublicKey getPublicKeyById(String kid) {
+					return (ECPublicKey) publicKey(kid);
+				}
+
+				@Override
+				public ECPrivateKey getPrivateKey() {
+					return null;
+				}
+
+				@Override
+				public String getPrivateKeyId() {
+					return null;
+				}
+			});
+		return Algorithm.RSA256(new RSAKeyProvider() {
+			@Override
+			public RSAPublicKey getPublicKeyById(String kid) {
+				return (RSAPublicKey) publicKey(kid);
+			}
+
+			@Override
+			public RSAPrivateKey getPrivateKey() {
+				return null;
+			}
+
+			@Override
+			public String getPrivateKeyId() {
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public Map<String, Object> jwks() {
+		return Map.of("keys", isHmac() ? List.of() : keys().getJwks());
+	}
+
+	@Override
+	public void rotate() {
+		if (isHmac())
+			return;
+
+		Instant now = Instant.now();
+		Instant activatesAt = now.plusSeconds(properties.getJwksMaxAgeSeconds());
+		Instant retiresAt = activatesAt.plus(maxTokenLifetime());
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			repository.retireAll(properties.getSigningAlgorithm(), retiresAt);
+			repository.save(newKey(now, activatesAt));
+		});
+		reload();
+		log.info("Nova chave {} de assinatura publicada, em uso a partir de {}", properties.getSigningAlgorithm(),
+				activatesAt);
+	}
+
+	/**
+	 * Recarrega as chaves gravadas por outras instâncias, roda a chave vencida e apaga as aposentadas.
+	 */
+	@Scheduled(fixedDelayString = "${token.signing.refresh-interval-ms:60000}",
+			initialDelayString = "${token.signing.refresh-interval-ms:60000}")
+	public void refresh() {
+		if (isHmac())
+			return;
+
+		reload();
+		Duration rotationInterval = Duration.ofHours(properties.getSigningRotationIntervalHours());
+		if (newestCreatedAt.plus(rotationInterval).isBefore(Instant.now()))
+			rotate();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> repository.deleteRetired(Instant.now()));
+	}
+
+	private SigningKeySet keys() {
+		SigningKeySet current = keys.get();
+		return current != null ? current : reload();
+	}
+
+	private synchronized SigningKeySet reload() {
+		String algorithm = properties.getSigningAlgorithm();
+		List<SigningKey> valid = repository.findValid(algorithm, Instant.now());
+		if (valid.isEmpty()) {
+			Instant now = Instant.now();
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> repository.save(newKey(now, now)));
+			valid = repository.findValid(algorithm, Instant.now());
+			log.info("Primeira chave {} de assinatura criada", algorithm);
+		}
+
+		SigningKeySet loaded = SigningKeySet.of(valid, cipher());
+		newestCreatedAt = valid.stream().map(SigningKey::getCreatedAt).max(Instant::compareTo).orElse(Instant.EPOCH);
+		keys.set(loaded);
+		return loaded;
+	}
+
+	/**
+	 * kid desconhecido pode ser uma chave recém-criada por outra instância; recarrega no máximo uma vez
+	 * a cada RELOAD_ON_MISS_INTERVAL para que kids inventados não virem consultas ao banco.
+	 */
+	private PublicKey publicKey(String kid) {
+		PublicKey key = keys().publicKey(kid);
+		Instant now = Instant.now();
+		if (key != null || kid == null || lastReloadOnMiss.plus(RELOAD_ON_MISS_INTERVAL).isAfter(now))
+			return key;
+
+		lastReloadOnMiss = now;
+		return reload().publicKey(kid);
+	}
+
+	private SigningKey newKey(Instant createdAt, Instant activatesAt) {
+		String algorithm = properties.getSigningAlgorithm();
+		KeyPair pair = KeyMaterial.generate(algorithm);
+		String kid = UUID.randomUUID().toString();
+		return new SigningKey(kid, algorithm, KeyMaterial.encode(pair.getPublic()),
+				cipher().encrypt(kid, KeyMaterial.encode(pair.getPrivate())), createdAt, activatesAt, null);
+	}
+
+	private PrivateKeyCipher cipher() {
+		return new PrivateKeyCipher(properties.getSigningKeyEncryptionSecret());
+	}
+
+	private Duration maxTokenLifetime() {
+		return Duration.ofMinutes(Math.max(properties.getAccessTokenTtlMinutes(),
+				properties.getRefreshTokenTtlMinutes()) + 1);
+	}
+
+	private boolean isHmac() {
+		return KeyMaterial.HS256.equals(properties.getSigningAlgorithm());
+	}
+}
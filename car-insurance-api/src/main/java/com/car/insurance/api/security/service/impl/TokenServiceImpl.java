@@ -1,9 +1,14 @@
 package com.car.insurance.api.security.service.impl;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -11,75 +16,189 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
 import com.auth0.jwt.interfaces.Payload;
 import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.VerifiedToken;
+import com.car.insurance.api.security.service.AccessDecisionService;
+import com.car.insurance.api.security.service.RevocationStore;
+import com.car.insurance.api.security.service.SigningKeyService;
 import com.car.insurance.api.security.service.TokenService;
+import com.car.insurance.api.security.signing.SigningKeySet.ActiveKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
 public class TokenServiceImpl implements TokenService {
 
-	private List<String> blackList = new ArrayList<>();
+	private final SigningKeyService signingKeys;
+
+	private final AccessDecisionService accessDecisionService;
+
+	private final JWTVerifier verifier;
+
+	private final JWTVerifier refreshVerifier;
+
+	private final Duration accessTokenTtl;
+
+	private final RevocationStore revocationStore;
+
+	/**
+	 * Tokens já verificados, indexados pelo SHA-256 do token. Cada entrada expira junto com o token.
+	 */
+	private final Cache<String, VerifiedToken> verifiedTokens;
+
 	@Autowired
-	private SecurityProperties properties;
+	public TokenServiceImpl(SecurityProperties properties, MeterRegistry meterRegistry,
+			RevocationStore revocationStore, SigningKeyService signingKeys,
+			AccessDecisionService accessDecisionService) {
+		Algorithm verification = signingKeys.verificationAlgorithm();
+		this.signingKeys = signingKeys;
+		this.accessDecisionService = accessDecisionService;
+		this.verifier = JWT.require(verification).build();
+		this.refreshVerifier = JWT.require(verification).withClaim(TOKEN_USE_CLAIM, REFRESH_TOKEN_USE).build();
+		this.accessTokenTtl = Duration.ofMinutes(properties.getAccessTokenTtlMinutes());
+		this.revocationStore = revocationStore;
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(properties.getVerifiedTokenCacheMaxSize())
+				.expireAfter(new Expiry<String, VerifiedToken>() {
+					@Override
+					public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+						return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+					}
+
+					@Override
+					public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+
+					@Override
+					public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verified-tokens");
+	}
 
 	public String splitToken(String authorizationHeaderValue) {
 		return authorizationHeaderValue.substring("Bearer ".length());
 	}
 
+	@Override
+	public VerifiedToken verify(String token) {
+		String key = hash(token);
+		VerifiedToken cached = verifiedTokens.getIfPresent(key);
+		if (cached != null)
+			return cached;
+
+		DecodedJWT decoded = verifier.verify(token);
+		if (REFRESH_TOKEN_USE.equals(decoded.getClaim(TOKEN_USE_CLAIM).asString()))
+			throw new JWTVerificationException("Refresh token não é aceito como token de acesso");
+
+		VerifiedToken verified = new VerifiedToken(key, decoded);
+		// sem exp o token não tem prazo para sair do cache, então é verificado sempre
+		if (verified.getExpiresAt() != null)
+			verifiedTokens.put(key, verified);
+		return verified;
+	}
+
+	@Override
+	public String issueAccessToken(String subject, List<String> roles, String issuer, String family) {
+		ActiveKey key = signingKeys.signingKey();
+		JWTCreator.Builder builder = create(key).withSubject(subject)
+				.withJWTId(UUID.randomUUID().toString())
+				.withExpiresAt(Instant.now().plus(accessTokenTtl))
+				.withIssuer(issuer)
+				.withClaim(ROLES_CLAIM, roles)
+				.withClaim(FAMILY_CLAIM, family);
+		long[] mask = roles == null ? null : accessDecisionService.currentTable().maskOf(roles);
+		if (mask != null)
+			builder.withArrayClaim(ROLES_MASK_CLAIM, Arrays.stream(mask).boxed().toArray(Long[]::new));
+		return builder.sign(key.getAlgorithm());
+	}
+
+	@Override
+	public String issueRefreshToken(String subject, List<String> roles, String issuer, String jti, String family,
+			Instant expiresAt) {
+		ActiveKey key = signingKeys.signingKey();
+		return create(key).withSubject(subject)
+				.withJWTId(jti)
+				.withExpiresAt(expiresAt)
+				.withIssuer(issuer)
+				.withClaim(ROLES_CLAIM, roles)
+				.withClaim(FAMILY_CLAIM, family)
+				.withClaim(TOKEN_USE_CLAIM, REFRESH_TOKEN_USE)
+				.sign(key.getAlgorithm());
+	}
+
+	@Override
+	public DecodedJWT verifyRefreshToken(String token) {
+		return refreshVerifier.verify(token);
+	}
+
 	public String getUserNameFromToken(String token) {
-		Algorithm algorithm = Algorithm.HMAC256(properties.getTokenSecret());
-		JWTVerifier verifier = JWT.require(algorithm).build();
-		DecodedJWT decodedJwt = verifier.verify(token);
-		return decodedJwt.getSubject();
+		return verify(token).getSubject();
 	}
 
 	@Override
 	public boolean isBlackListed(String token) {
-		return blackList.stream().anyMatch(item -> token.equals(item));
+		return isRevoked(verify(token));
+	}
+
+	@Override
+	public boolean isRevoked(VerifiedToken token) {
+		return revocationStore.isRevoked(token.getId());
 	}
 
 	/**
-	 * Para invalidar o token o ideal seria, ao efetivar o logoff, adicionar o token
-	 * a uma blacklist em cache (redis, por exemplo), removendo-o do cache após
-	 * algum tempo. Entretanto, para agilizar o desenvolvimento do desafio, estou
-	 * usando apenas uma lista em memória para representar esta blacklist.
+	 * O token fica revogado até o seu exp; depois disso a própria verificação já o recusa.
 	 */
 	@Override
 	public void addToBlackList(String token) {
-		blackList.add(token);
+		VerifiedToken verified = verify(token);
+		revocationStore.revoke(verified.getId(),
+				verified.getExpiresAt() != null ? verified.getExpiresAt() : Instant.MAX);
 	}
 
 	@Override
 	public String[] getRolesFromToken(String token) {
-		Algorithm algorithm = Algorithm.HMAC256(properties.getTokenSecret());
-		JWTVerifier verifier = JWT.require(algorithm).build();
-		DecodedJWT decodedJwt = verifier.verify(token);
-		return decodedJwt.getClaim("roles").asArray(String.class);
+		return verify(token).getRoles().toArray(new String[0]);
 	}
 
 	@Override
 	public String getUserNameFromRequest(HttpServletRequest request) {
 		String authorizationHeader = request.getHeader("Authorization");
-		String token = authorizationHeader.substring("Bearer ".length());
-		Algorithm algorithm = Algorithm.HMAC256(properties.getTokenSecret());
-		JWTVerifier verifier = JWT.require(algorithm).build();
-		DecodedJWT decodedJwt = verifier.verify(token);
-		return decodedJwt.getSubject();
+		return verify(splitToken(authorizationHeader)).getSubject();
 	}
 	
 	@Override
 	public Payload getTokenPayload(String token) {
-		Algorithm algorithm = Algorithm.HMAC256(properties.getTokenSecret());
-		JWTVerifier verifier = JWT.require(algorithm).build();
-		DecodedJWT decodedJwt = verifier.verify(token);
-		JWTParser parser = new JWTParser();
-		
-		String jwtEncoded = new String(Base64.getUrlDecoder().decode(decodedJwt.getPayload().getBytes()), StandardCharsets.UTF_8);
-		Payload payload = parser.parsePayload(jwtEncoded);
-		return payload;
+		return verify(token).getDecoded();
+	}
+
+	private JWTCreator.Builder create(ActiveKey key) {
+		JWTCreator.Builder builder = JWT.create();
+		return key.getKid() == null ? builder : builder.withKeyId(key.getKid());
+	}
+
+	private String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 não disponível", e);
+		}
 	}
 }
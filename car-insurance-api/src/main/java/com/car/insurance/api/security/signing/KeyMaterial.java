@@ -0,0 +1,126 @@
+package com.car.insurance.api.security.signing;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+/**
+ * Geração, serialização e conversão para JWK das chaves RS256 e ES256.
+ */
+public final class KeyMaterial {
+
+	public static final String HS256 = "HS256";
+	public static final String RS256 = "RS256";
+	public static final String ES256 = "ES256";
+
+	private static final int RSA_KEY_SIZE = 2048;
+	private static final int P256_COORDINATE_LENGTH = 32;
+
+	private KeyMaterial() {
+	}
+
+	public static KeyPair generate(String algorithm) {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance(keyType(algorithm));
+			if (ES256.equals(algorithm))
+				generator.initialize(new ECGenParameterSpec("secp256r1"));
+			else
+				generator.initialize(RSA_KEY_SIZE);
+			return generator.generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Não foi possível gerar chave " + algorithm, e);
+		}
+	}
+
+	public static String encode(Key key) {
+		return Base64.getEncoder().encodeToString(key.getEncoded());
+	}
+
+	public static PublicKey decodePublic(String algorithm, String encoded) {
+		try {
+			return KeyFactory.getInstance(keyType(algorithm))
+					.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Chave pública " + algorithm + " inválida", e);
+		}
+	}
+
+	public static PrivateKey decodePrivate(String algorithm, String encoded) {
+		try {
+			return KeyFactory.getInstance(keyType(algorithm))
+					.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Chave privada " + algorithm + " inválida", e);
+		}
+	}
+
+	/**
+	 * Algorithm de assinatura com o par informado.
+	 */
+	public static Algorithm signer(String algorithm, PublicKey publicKey, PrivateKey privateKey) {
+		if (ES256.equals(algorithm))
+			return Algorithm.ECDSA256((ECPublicKey) publicKey, (ECPrivateKey) privateKey);
+		return Algorithm.RSA256((RSAPublicKey) publicKey, (RSAPrivateKey) privateKey);
+	}
+
+	public static Map<String, Object> toJwk(String kid, String algorithm, PublicKey publicKey) {
+		Map<String, Object> jwk = new LinkedHashMap<>();
+		jwk.put("kid", kid);
+		jwk.put("use", "sig");
+		jwk.put("alg", algorithm);
+		if (publicKey instanceof ECPublicKey) {
+			ECPublicKey ec = (ECPublicKey) publicKey;
+			jwk.put("kty", "EC");
+			jwk.put("crv", "P-256");
+			jwk.put("x", base64Url(ec.getW().getAffineX(), P256_COORDINATE_LENGTH));
+			jwk.put("y", base64Url(ec.getW().getAffineY(), P256_COORDINATE_LENGTH));
+		} else {
+			RSAPublicKey rsa = (RSAPublicKey) publicKey;
+			jwk.put("kty", "RSA");
+			jwk.put("n", base64Url(rsa.getModulus(), 0));
+			jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+		}
+		return jwk;
+	}
+
+	private static String keyType(String algorithm) {
+		if (RS256.equals(algorithm))
+			return "RSA";
+		if (ES256.equals(algorithm))
+			return "EC";
+		throw new IllegalArgumentException("Algoritmo de assinatura não suportado: " + algorithm);
+	}
+
+	/**
+	 * Inteiro sem sinal em big-endian (RFC 7518), com zeros à esquerda até length quando informado.
+	 */
+	private static String base64Url(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0)
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		if (bytes.length < length) {
+			byte[] padded = new byte[length];
+			System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+			bytes = padded;
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
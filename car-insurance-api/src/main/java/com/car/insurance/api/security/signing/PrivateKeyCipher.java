@@ -0,0 +1,65 @@
+package com.car.insurance.api.security.signing;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Cifra as chaves privadas gravadas em signing_key com AES-256-GCM, sob uma chave derivada (SHA-256)
+ * de token.signing.key-encryption-secret. O kid entra como dado autenticado, então uma chave
+ * copiada para outra linha não decifra. Formato gravado: Base64(IV de 12 bytes + texto cifrado).
+ */
+public final class PrivateKeyCipher {
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final int IV_LENGTH = 12;
+	private static final int TAG_BITS = 128;
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final SecretKeySpec key;
+
+	public PrivateKeyCipher(String secret) {
+		if (secret == null || secret.isBlank())
+			throw new IllegalStateException("token.signing.key-encryption-secret não configurado");
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+			this.key = new SecretKeySpec(digest, "AES");
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("SHA-256 não disponível", e);
+		}
+	}
+
+	public String encrypt(String kid, String privateKey) {
+		try {
+			byte[] iv = new byte[IV_LENGTH];
+			RANDOM.nextBytes(iv);
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+			cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+			byte[] encrypted = cipher.doFinal(privateKey.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder()
+					.encodeToString(ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array());
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Não foi possível cifrar a chave " + kid, e);
+		}
+	}
+
+	public String decrypt(String kid, String stored) {
+		try {
+			byte[] data = Base64.getDecoder().decode(stored);
+			Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+			cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+			cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+			return new String(cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH), StandardCharsets.UTF_8);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("Não foi possível decifrar a chave " + kid, e);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.car.insurance.api.security.signing;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.car.insurance.api.security.domain.SigningKey;
+
+/**
+ * Chaves válidas em um instante, já decodificadas: a que assina, as públicas por kid para
+ * verificação e o JWKS publicado. Imutável; a recarga das chaves gera um novo conjunto.
+ */
+public final class SigningKeySet {
+
+	private final List<ActiveKey> keys;
+	private final Map<String, PublicKey> publicKeys;
+	private final List<Map<String, Object>> jwks;
+
+	private SigningKeySet(List<ActiveKey> keys, Map<String, PublicKey> publicKeys, List<Map<String, Object>> jwks) {
+		this.keys = keys;
+		this.publicKeys = publicKeys;
+		this.jwks = jwks;
+	}
+
+	public static SigningKeySet of(List<SigningKey> signingKeys, PrivateKeyCipher cipher) {
+		List<ActiveKey> keys = new ArrayList<>();
+		Map<String, PublicKey> publicKeys = new HashMap<>();
+		List<Map<String, Object>> jwks = new ArrayList<>();
+		signingKeys.stream().sorted(Comparator.comparing(SigningKey::getActivatesAt).reversed()).forEach(key -> {
+			PublicKey publicKey = KeyMaterial.decodePublic(key.getAlgorithm(), key.getPublicKey());
+			PrivateKey privateKey = KeyMaterial.decodePrivate(key.getAlgorithm(),
+					cipher.decrypt(key.getKid(), key.getPrivateKey()));
+			keys.add(new ActiveKey(key.getKid(), key.getActivatesAt(),
+					KeyMaterial.signer(key.getAlgorithm(), publicKey, privateKey)));
+			publicKeys.put(key.getKid(), publicKey);
+			jwks.add(KeyMaterial.toJwk(key.getKid(), key.getAlgorithm(), publicKey));
+		});
+		return new SigningKeySet(List.copyOf(keys), Map.copyOf(publicKeys), List.copyOf(jwks));
+	}
+
+	/**
+	 * A chave mais recente já ativa; chaves ainda não ativas só aparecem no JWKS.
+	 */
+	public ActiveKey signingKey(Instant now) {
+		for (ActiveKey key : keys) {
+			if (!key.activatesAt.isAfter(now))
+				return key;
+		}
+		return keys.isEmpty() ? null : keys.get(keys.size() - 1);
+	}
+
+	public PublicKey publicKey(String kid) {
+		return kid == null ? null : publicKeys.get(kid);
+	}
+
+	public List<Map<String, Object>> getJwks() {
+		return jwks;
+	}
+
+	public boolean isEmpty() {
+		return keys.isEmpty();
+	}
+
+	public static final class ActiveKey {
+
+		private final String kid;
+		private final Instant activatesAt;
+		private final Algorithm algorithm;
+
+		public ActiveKey(String kid, Instant activatesAt, Algorithm algorithm) {
+			this.kid = kid;
+			this.activatesAt = activatesAt;
+			this.algorithm = algorithm;
+		}
+
+		public String getKid() {
+			return kid;
+		}
+
+		public Algorithm getAlgorithm() {
+			return algorithm;
+		}
+	}
+}
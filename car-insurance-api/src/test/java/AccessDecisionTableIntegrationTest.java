@@ -0,0 +1,148 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.security.authorization.AccessDecisionTable;
+import com.car.insurance.api.security.authorization.AccessDecisionTable.ResourceRule;
+import com.car.insurance.api.security.domain.Resource;
+import com.car.insurance.api.security.domain.ResourceScope;
+import com.car.insurance.api.security.domain.Scope;
+import com.car.insurance.api.security.repository.RoleRepository;
+import com.car.insurance.api.security.service.AccessDecisionService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class AccessDecisionTableIntegrationTest {
+
+	@Autowired
+	private AccessDecisionService accessDecisionService;
+
+	@Autowired
+	private RoleRepository scopeRepository;
+
+	@Test
+	@DisplayName("Tabela carregada na subida deve refletir os recursos e scopes cadastrados")
+	void currentTable_AfterStartup_ReflectsDatabase() {
+		ResourceRule rule = accessDecisionService.currentTable().find("GET", "/af/financial-information/v1/test");
+
+		assertNotNull(rule);
+		assertEquals("financial-information-api", rule.getService());
+		assertTrue(rule.allows(List.of("FINANCIAL_INFORMATION_API")));
+		assertFalse(rule.allows(List.of("COUPON_API")));
+		assertNull(accessDecisionService.currentTable().find("POST", "/af/financial-information/v1/test"));
+	}
+
+	@Test
+	@DisplayName("Scopes cadastrados devem ter bitIndex e a máscara deve decidir como os nomes")
+	void maskOf_WithRegisteredScopes_AllowsByMask() {
+		AccessDecisionTable table = accessDecisionService.currentTable();
+		ResourceRule rule = table.find("GET", "/af/financial-information/v1/test");
+
+		long[] financial = table.maskOf(List.of("FINANCIAL_INFORMATION_API"));
+		long[] coupon = table.maskOf(List.of("COUPON_API"));
+
+		assertNotNull(financial);
+		assertTrue(rule.allows(financial));
+		assertFalse(rule.allows(coupon));
+		assertNull(table.maskOf(List.of("INEXISTENTE")));
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@DisplayName("bitIndex de um scope removido não deve ser reusado por um scope novo")
+	void reload_AfterRemovingHighestScope_DoesNotReuseBit() {
+		Scope removed = scopeRepository.save(new Scope(null, "SCOPE_REMOVIDO", new HashSet<>()));
+		accessDecisionService.reload();
+		Integer removedBit = scopeRepository.findByName("SCOPE_REMOVIDO").getBitIndex();
+		scopeRepository.deleteById(removed.getId());
+
+		Scope created = scopeRepository.save(new Scope(null, "SCOPE_NOVO", new HashSet<>()));
+		try {
+			AccessDecisionTable table = accessDecisionService.reload();
+
+			assertNotNull(removedBit);
+			assertTrue(scopeRepository.findByName("SCOPE_NOVO").getBitIndex() > removedBit);
+			assertNull(table.maskOf(List.of("SCOPE_REMOVIDO")));
+		} finally {
+			scopeRepository.deleteById(created.getId());
+		}
+	}
+
+	@Test
+	@DisplayName("Scope sem bitIndex deve ficar fora da máscara, mas continuar valendo pelo nome")
+	void compile_WithScopeWithoutBitIndex_FallsBackToNames() {
+		Scope stable = new Scope(1, "SCOPE_A", 0, new HashSet<>());
+		Scope pending = new Scope(2, "SCOPE_B", new HashSet<>());
+		Resource resource = new Resource(1, "/teste", "GET", "teste", new HashSet<>());
+
+		AccessDecisionTable table = AccessDecisionTable.compile(List.of(stable, pending), List.of(resource),
+				List.of(new ResourceScope(resource, pending)), 1);
+
+		assertNotNull(table.maskOf(List.of("SCOPE_A")));
+		assertNull(table.maskOf(List.of("SCOPE_A", "SCOPE_B")));
+		assertTrue(table.find("GET", "/teste").allows(List.of("SCOPE_B")));
+		assertFalse(table.find("GET", "/teste").allows(table.maskOf(List.of("SCOPE_A"))));
+	}
+
+	@Test
+	@DisplayName("Havendo recursos duplicados para o mesmo método e urn, vale o de menor id")
+	void compile_WithDuplicatedResource_KeepsFirst() {
+		Scope scope = new Scope(1, "SCOPE_A", new HashSet<>());
+		Resource first = new Resource(1, "/teste", "GET", "primeiro", new HashSet<>());
+		Resource second = new Resource(2, "/teste", "GET", "segundo", new HashSet<>());
+
+		AccessDecisionTable table = AccessDecisionTable.compile(List.of(scope), List.of(second, first),
+				List.of(new ResourceScope(second, scope)), 1);
+
+		assertEquals("primeiro", table.find("GET", "/teste").getService());
+		assertFalse(table.find("GET", "/teste").allows(List.of("SCOPE_A")));
+	}
+
+	@Test
+	@DisplayName("Urn com parâmetros e curingas deve casar pelo formato, com o literal tendo precedência")
+	void compile_WithTemplates_MatchesByShape() {
+		Resource literal = new Resource(1, "/api/v1/insurance/budget/export", "GET", "literal", new HashSet<>());
+		Resource parameter = new Resource(2, "/api/v1/insurance/budget/{id}", "GET", "parametro", new HashSet<>());
+		Resource wildcard = new Resource(3, "/api/v1/insurance/*/import", "POST", "curinga", new HashSet<>());
+		Resource catchAll = new Resource(4, "/api/v1/insurance/fipe/**", "GET", "todos", new HashSet<>());
+
+		AccessDecisionTable table = AccessDecisionTable.compile(List.of(),
+				List.of(literal, parameter, wildcard, catchAll), List.of(), 1);
+
+		assertEquals("literal", table.find("GET", "/api/v1/insurance/budget/export").getService());
+		assertEquals("parametro", table.find("GET", "/api/v1/insurance/budget/42").getService());
+		assertEquals("parametro", table.find("GET", "/api/v1/insurance/budget/42?fields=amount").getService());
+		assertEquals("curinga", table.find("POST", "/api/v1/insurance/cars/import").getService());
+		assertEquals("todos", table.find("GET", "/api/v1/insurance/fipe/versions/2030-01").getService());
+		assertNull(table.find("GET", "/api/v1/insurance/budget/42/items"));
+		assertNull(table.find("POST", "/api/v1/insurance/budget/42"));
+	}
+
+	@Test
+	@DisplayName("Urn com segmentos de ponto ou separadores codificados não deve casar com nenhuma rota")
+	void find_WithDotSegmentsOrEncodedSeparators_Denies() {
+		Resource parameter = new Resource(1, "/api/v1/insurance/budget/{id}", "GET", "parametro", new HashSet<>());
+		Resource catchAll = new Resource(2, "/api/v1/insurance/fipe/**", "GET", "todos", new HashSet<>());
+
+		AccessDecisionTable table = AccessDecisionTable.compile(List.of(), List.of(parameter, catchAll), List.of(), 1);
+
+		assertNull(table.find("GET", "/api/v1/insurance/fipe/../../admin/x"));
+		assertNull(table.find("GET", "/api/v1/insurance/fipe/./active"));
+		assertNull(table.find("GET", "/api/v1/insurance/budget/.."));
+		assertNull(table.find("GET", "/api/v1/insurance/fipe/%2e%2e/%2E%2E/admin"));
+		assertNull(table.find("GET", "/api/v1/insurance/fipe/..%2fadmin"));
+		assertNull(table.find("GET", "/api/v1/insurance/fipe/..%5Cadmin"));
+		assertNull(table.find("GET", "/api/v1/insurance/fipe/%252e%252e/admin"));
+		assertNull(table.find("GET", "/api/v1/insurance/budget/42;x=..\\admin"));
+		assertEquals("todos", table.find("GET", "/api/v1/insurance/fipe/versions/2030-01").getService());
+		assertEquals("parametro", table.find("GET", "/api/v1/insurance/budget/42%20").getService());
+	}
+}
@@ -0,0 +1,66 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.exception.PasswordHashingUnavailableException;
+import com.car.insurance.api.security.service.impl.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTest {
+
+	@DisplayName("Com o pool e a fila ocupados o hash deve ser recusado na hora")
+	@Test
+	void matches_WhenQueueIsFull_Rejects() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder slow = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				return rawPassword.toString();
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return rawPassword.toString().equals(encodedPassword);
+			}
+		};
+		SecurityProperties properties = new SecurityProperties();
+		properties.setHashingPoolSize(1);
+		properties.setHashingQueueCapacity(1);
+		properties.setHashingTimeoutMs(5000);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, properties, registry);
+
+		try {
+			CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("senha", "senha"));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("senha", "senha"));
+			while (registry.get("password.hashing.queue.size").gauge().value() < 1)
+				Thread.sleep(10);
+
+			assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("senha", "senha"));
+			assertEquals(1, registry.get("password.hashing.rejected").counter().count());
+
+			release.countDown();
+			assertTrue(running.get(5, TimeUnit.SECONDS));
+			assertTrue(queued.get(5, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			encoder.destroy();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.Customer;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.dto.BudgetBatchItemDto;
+import com.car.insurance.api.domain.dto.BudgetRequestDTO;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.repository.BudgetRepository;
+import com.car.insurance.api.domain.repository.CarDriverRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.ClaimRepository;
+import com.car.insurance.api.domain.repository.CustomerRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.BudgetService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class BudgetBatchIntegrationTest {
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private CarDriverRepository carDriverRepository;
+
+	@Autowired
+	private ClaimRepository claimRepository;
+
+	private Integer customerId;
+	private Integer carId;
+	private Integer carWithClaimId;
+	private Integer carWithoutMainDriverId;
+
+	@BeforeEach
+	void setUp() {
+		Driver driver = driverRepository.save(new Driver(null, "10120230344", LocalDate.of(1980, 1, 1)));
+		customerId = customerRepository.save(new Customer(null, "Cliente Lote", driver)).getId();
+
+		carId = saveCar("Gol", 40000f, driver, true).getId();
+
+		Car carWithClaim = saveCar("Civic", 80000f, driver, true);
+		claimRepository.save(new Claim(null, LocalDateTime.now().minusMonths(1), null, carWithClaim));
+		carWithClaimId = carWithClaim.getId();
+
+		carWithoutMainDriverId = saveCar("Onix", 55000f, driver, false).getId();
+	}
+
+	private Car saveCar(String model, float fipeValue, Driver driver, boolean mainDriver) {
+		Car car = carRepository.save(new Car(null, model, "Fabricante", "2020", fipeValue, new ArrayList<>()));
+		CarDriver carDriver = carDriverRepository.save(new CarDriver(null, driver, car, null, mainDriver));
+		car.getCarDriver().add(carDriver);
+		return carRepository.save(car);
+	}
+
+	private BudgetRequestDTO request(Integer carId, Integer customerId) {
+		BudgetRequestDTO dto = new BudgetRequestDTO();
+		dto.setCarId(carId);
+		dto.setCustomerId(customerId);
+		return dto;
+	}
+
+	@Test
+	@DisplayName("Deve cotar o lote e retornar o resultado de cada item, incluindo falhas parciais")
+	void createBudgets_WithMixedItems_ReturnsResultPerItem() throws CustomBusinessException {
+		long initialCount = budgetRepository.count();
+
+		List<BudgetBatchItemDto> results = budgetService.createBudgets(Arrays.asList(
+				request(carId, customerId),
+				request(carWithClaimId, customerId),
+				request(carWithoutMainDriverId, customerId),
+				request(99999, customerId)));
+
+		assertEquals(4, results.size());
+
+		assertTrue(results.get(0).getCreated());
+		assertNotNull(results.get(0).getBudgetId());
+		assertEquals(2400.0, results.get(0).getAmount(), 0.01);
+
+		assertTrue(results.get(1).getCreated());
+		assertEquals(6400.0, results.get(1).getAmount(), 0.01);
+
+		assertFalse(results.get(2).getCreated());
+		assertEquals("O carro informado não possui condutor principal cadastrado", results.get(2).getMessage());
+
+		assertFalse(results.get(3).getCreated());
+		assertEquals("Carro não existe na base de dados.", results.get(3).getMessage());
+
+		assertEquals(initialCount + 2, budgetRepository.count());
+	}
+
+	@Test
+	@DisplayName("Deve precificar os carros em conjunto, deixando de fora os que não têm condutor principal")
+	void priceCars_WithMixedCars_ReturnsAmountPerPricedCar() {
+		Map<Integer, Double> amounts = budgetService.priceCars(Arrays.asList(carId, carWithClaimId, carWithoutMainDriverId));
+
+		assertEquals(2, amounts.size());
+		assertEquals(2400.0, amounts.get(carId), 0.01);
+		assertEquals(6400.0, amounts.get(carWithClaimId), 0.01);
+		assertFalse(amounts.containsKey(carWithoutMainDriverId));
+	}
+}
@@ -0,0 +1,94 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.Budget;
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.Customer;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.dto.BudgetPageDto;
+import com.car.insurance.api.domain.dto.BudgetSummaryDto;
+import com.car.insurance.api.domain.repository.BudgetRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.CustomerRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.BudgetService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class BudgetListingIntegrationTest {
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	private Integer customerId;
+	private List<Integer> budgetIds = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		Driver driver = driverRepository.save(new Driver(null, "77788899900", LocalDate.of(1975, 5, 5)));
+		Customer customer = customerRepository.save(new Customer(null, "Corretora", driver));
+		Customer other = customerRepository.save(new Customer(null, "Outro Cliente", driver));
+		Car car = carRepository.save(new Car(null, "Argo", "Fiat", "2021", 70000f, new ArrayList<>()));
+		customerId = customer.getId();
+
+		for (int i = 0; i < 5; i++) {
+			budgetIds.add(budgetRepository.save(new Budget(null, car, customer, 1000.0 + i)).getId());
+			budgetRepository.save(new Budget(null, car, other, 500.0));
+		}
+	}
+
+	@Test
+	@DisplayName("Deve percorrer todos os orçamentos do cliente usando o cursor da página anterior")
+	void listBudgets_FollowingCursor_ReturnsEveryBudgetOnce() {
+		List<Integer> seen = new ArrayList<>();
+		Integer after = null;
+		int pages = 0;
+		do {
+			BudgetPageDto page = budgetService.listBudgets(customerId, after, 2);
+			page.getItems().stream().map(BudgetSummaryDto::getId).forEach(seen::add);
+			after = page.getNextCursor();
+			pages++;
+		} while (after != null);
+
+		assertEquals(3, pages);
+		assertEquals(budgetIds, seen);
+	}
+
+	@Test
+	@DisplayName("Deve exportar um orçamento por linha em NDJSON")
+	void exportBudgets_WritesOneJsonPerLine() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		budgetService.exportBudgets(out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(budgetRepository.count(), lines.length);
+		assertTrue(lines[lines.length - 1].startsWith("{\"id\":"));
+		assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+	}
+}
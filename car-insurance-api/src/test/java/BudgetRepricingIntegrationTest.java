@@ -0,0 +1,169 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.car.insurance.api.domain.Budget;
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.RepricingCheckpoint;
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.dto.RepricingStatusDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.repository.BudgetRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.RepricingCheckpointRepository;
+import com.car.insurance.api.domain.service.BudgetRepricingService;
+import com.car.insurance.api.domain.service.BudgetService;
+import com.car.insurance.api.domain.service.impl.RepricingRun;
+
+/**
+ * Roda sem transação de teste: os workers do reprecificador usam as próprias threads e só enxergam
+ * o que foi confirmado. Os dados criados são apagados ao final.
+ */
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+public class BudgetRepricingIntegrationTest {
+
+	private static final int BUDGETS = 12;
+
+	@Autowired
+	private BudgetRepricingService repricingService;
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private RepricingCheckpointRepository checkpointRepository;
+
+	@Autowired
+	private BudgetProperties properties;
+
+	private final List<Budget> budgets = new ArrayList<>();
+	private final Map<Integer, AtomicInteger> pricedCars = new ConcurrentHashMap<>();
+	private final AtomicInteger priceCalls = new AtomicInteger();
+	private volatile int failOnCall;
+	private int workers;
+	private int chunkSize;
+
+	@BeforeEach
+	void setUp() {
+		checkpointRepository.deleteAll();
+		for (int i = 0; i < BUDGETS; i++) {
+			Car car = carRepository.save(new Car(null, "Modelo " + i, "Reprecificação", "2020", 30000f, new ArrayList<>()));
+			budgets.add(budgetRepository.save(Budget.builder().amount(0d).car(car).build()));
+			pricedCars.put(car.getId(), new AtomicInteger());
+		}
+
+		workers = properties.getRepricingWorkers();
+		chunkSize = properties.getRepricingChunkSize();
+		properties.setRepricingWorkers(2);
+		properties.setRepricingChunkSize(2);
+		ReflectionTestUtils.setField(repricingService, "budgetService", countingBudgetService());
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReflectionTestUtils.setField(repricingService, "budgetService", budgetService);
+		properties.setRepricingWorkers(workers);
+		properties.setRepricingChunkSize(chunkSize);
+		checkpointRepository.deleteAll();
+		budgetRepository.deleteAll(budgets);
+		carRepository.deleteAllById(pricedCars.keySet());
+	}
+
+	@Test
+	@DisplayName("Reprecificação interrompida deve continuar do checkpoint sem repetir orçamentos")
+	void start_AfterInterruptedRun_ResumesEachBudgetOnce() throws Exception {
+		failOnCall = 2;
+		RepricingStatusDto first = awaitEnd(repricingService.start().getRunId());
+
+		assertEquals(RepricingRun.Status.FAILED.name(), first.getStatus());
+		List<RepricingCheckpoint> pending = checkpointRepository.findByFinishedFalse();
+		assertFalse(pending.isEmpty());
+		assertTrue(pending.stream().allMatch(c -> c.getRunId().equals(first.getRunId())));
+		assertTrue(pricedCars.values().stream().anyMatch(count -> count.get() == 0));
+
+		failOnCall = 0;
+		RepricingStatusDto resumed = awaitEnd(repricingService.start().getRunId());
+
+		assertEquals(first.getRunId(), resumed.getRunId());
+		assertEquals(RepricingRun.Status.COMPLETED.name(), resumed.getStatus());
+		assertTrue(checkpointRepository.findByFinishedFalse().isEmpty());
+		pricedCars.forEach((carId, count) -> assertEquals(1, count.get(), "carro " + carId));
+		for (Budget budget : budgets)
+			assertEquals(amountFor(budget.getCar().getId()),
+					budgetRepository.findById(budget.getId()).get().getAmount());
+	}
+
+	private RepricingStatusDto awaitEnd(String runId) throws CustomBusinessException, InterruptedException {
+		long deadline = System.currentTimeMillis() + 30_000;
+		RepricingStatusDto status = repricingService.getStatus(runId);
+		while (RepricingRun.Status.RUNNING.name().equals(status.getStatus())) {
+			assertTrue(System.currentTimeMillis() < deadline, "reprecificação não terminou");
+			Thread.sleep(20);
+			status = repricingService.getStatus(runId);
+		}
+		return status;
+	}
+
+	/**
+	 * Precifica os carros criados pelo teste com um valor conhecido, contando quantas vezes cada um
+	 * foi gravado, e falha no bloco failOnCall com esses carros para simular a queda no meio da
+	 * execução. Os demais carros seguem para o BudgetService real.
+	 */
+	private BudgetService countingBudgetService() {
+		return (BudgetService) Proxy.newProxyInstance(BudgetService.class.getClassLoader(),
+				new Class<?>[] { BudgetService.class }, (proxy, method, args) -> {
+					if (!"priceCars".equals(method.getName())) {
+						try {
+							return method.invoke(budgetService, args);
+						} catch (InvocationTargetException ex) {
+							throw ex.getCause();
+						}
+					}
+					@SuppressWarnings("unchecked")
+					Collection<Integer> carIds = (Collection<Integer>) args[0];
+					if (carIds.stream().anyMatch(pricedCars::containsKey) && priceCalls.incrementAndGet() == failOnCall)
+						throw new IllegalStateException("Queda simulada");
+
+					Set<Integer> others = carIds.stream().filter(id -> !pricedCars.containsKey(id))
+							.collect(Collectors.toSet());
+					Map<Integer, Double> amounts = new HashMap<>(
+							others.isEmpty() ? Map.of() : budgetService.priceCars(others));
+					for (Integer carId : carIds) {
+						AtomicInteger count = pricedCars.get(carId);
+						if (count != null) {
+							count.incrementAndGet();
+							amounts.put(carId, amountFor(carId));
+						}
+					}
+					return amounts;
+				});
+	}
+
+	private static Double amountFor(Integer carId) {
+		return 1000d + carId;
+	}
+}
@@ -9,6 +9,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -84,4 +86,42 @@ public class BudgetValidationIntegrationTest {
                 .content(new ObjectMapper().writeValueAsString(payload)))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    @DisplayName("❌ Deve retornar 400 quando o lote tem item nulo")
+    void deveRetornar400ParaLoteComItemNulo() throws Exception {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("carId", 1);
+        payload.put("customerId", 1);
+
+        mockMvc.perform(post("/api/v1/insurance/budget/batch")
+                .header("Authorization", "Bearer " + bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(Arrays.asList(payload, null))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("❌ Deve retornar 400 quando um item do lote não tem carId")
+    void deveRetornar400ParaLoteComCarIdNulo() throws Exception {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("carId", null);
+        payload.put("customerId", 1);
+
+        mockMvc.perform(post("/api/v1/insurance/budget/batch")
+                .header("Authorization", "Bearer " + bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(Collections.singletonList(payload))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("❌ Deve retornar 400 quando o lote é vazio")
+    void deveRetornar400ParaLoteVazio() throws Exception {
+        mockMvc.perform(post("/api/v1/insurance/budget/batch")
+                .header("Authorization", "Bearer " + bearerToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.Budget;
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Customer;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.dto.BudgetResponseDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.repository.BudgetRepository;
+import com.car.insurance.api.domain.repository.CarDriverRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.CustomerRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.BudgetService;
+import com.car.insurance.api.domain.service.CarService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class,
+		properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class CarDriverFetchIntegrationTest {
+
+	@Autowired
+	private CarService carService;
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private CarDriverRepository carDriverRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Integer carId;
+	private Integer budgetId;
+
+	@BeforeEach
+	void setUp() {
+		Car car = carRepository.save(new Car(null, "Fit", "Honda", "2018", 50000f, new ArrayList<>()));
+		for (int i = 0; i < 3; i++) {
+			Driver driver = driverRepository.save(new Driver(null, "5550000000" + i, LocalDate.of(1985, 1, 1)));
+			car.getCarDriver().add(carDriverRepository.save(new CarDriver(null, driver, car, null, i == 0)));
+		}
+		Customer customer = customerRepository.save(new Customer(null, "Cliente Grafo", car.getCarDriver().get(0).getDriver()));
+		budgetId = budgetRepository.save(new Budget(null, car, customer, 1000.0)).getId();
+		carId = car.getId();
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	@Test
+	@DisplayName("Deve carregar o carro com todos os condutores em uma única consulta")
+	void getCarById_LoadsDriversInSingleStatement() throws CustomBusinessException {
+		Statistics statistics = statistics();
+
+		Car car = carService.getCarById(carId);
+		car.getCarDriver().forEach(carDriver -> carDriver.getDriver().getDocument());
+
+		assertEquals(3, car.getCarDriver().size());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	@DisplayName("Deve montar a resposta do orçamento em uma única consulta, sem carregar entidades")
+	void getBudget_LoadsProjectionInSingleStatement() throws CustomBusinessException {
+		Statistics statistics = statistics();
+
+		BudgetResponseDto response = budgetService.getBudget(budgetId);
+
+		assertEquals("Fit", response.getCar().getCarModel());
+		assertEquals(3, response.getDrivers().size());
+		assertTrue(response.getDrivers().get(0).getMainDriver());
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+}
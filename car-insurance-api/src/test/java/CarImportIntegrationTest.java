@@ -0,0 +1,88 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.dto.CarImportReportDto;
+import com.car.insurance.api.domain.repository.CarDriverRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.service.CarImportService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class, properties = "car.import.chunk-size=1")
+@Transactional
+public class CarImportIntegrationTest {
+
+	@Autowired
+	private CarImportService carImportService;
+
+	@Autowired
+	private CarDriverRepository carDriverRepository;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("Deve importar o CSV reaproveitando carro e condutor entre blocos e reportar as linhas inválidas")
+	void importCars_WithInvalidLine_ImportsValidRowsAndReportsLine() throws IOException {
+		long initialLinks = carDriverRepository.count();
+		String csv = "carKey,model,manufacturer,releaseYear,fipeValue,driverDocument,driverBirthdate,mainDriver\n"
+				+ "frota-1,Strada,Fiat,2022,95000,90000000001,10/02/1980,true\n"
+				+ "frota-1,Strada,Fiat,2022,95000,90000000002,21/07/1992,false\n"
+				+ "frota-2,Saveiro,VW,2021,abc,90000000001,10/02/1980,true\n"
+				+ "frota-3,Toro,Fiat,2023,130000,90000000001,10/02/1980,true\n";
+
+		CarImportReportDto report = carImportService.importCars(new StringReader(csv));
+
+		assertEquals("COMPLETED", report.getStatus());
+		assertEquals(4, report.getLinesRead());
+		assertEquals(2, report.getCarsCreated());
+		assertEquals(2, report.getDriversCreated());
+		assertEquals(3, report.getLinksCreated());
+		assertEquals(1, report.getErrorCount());
+		assertEquals(4, report.getErrors().get(0).getLine());
+		assertEquals(initialLinks + 3, carDriverRepository.count());
+	}
+
+	@Test
+	@DisplayName("Entidades de um bloco não devem continuar gerenciadas depois que ele é gravado")
+	void importCars_WithSeveralChunks_LeavesPersistenceContextEmpty() throws IOException {
+		String csv = "carKey,model,manufacturer,releaseYear,fipeValue,driverDocument,driverBirthdate,mainDriver\n"
+				+ "frota-20,Strada,Fiat,2022,95000,90000000020,10/02/1980,true\n"
+				+ "frota-20,Strada,Fiat,2022,95000,90000000021,21/07/1992,false\n"
+				+ "frota-21,Toro,Fiat,2023,130000,90000000020,10/02/1980,true\n";
+
+		CarImportReportDto report = carImportService.importCars(new StringReader(csv));
+
+		assertEquals(3, report.getLinksCreated());
+		assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+	}
+
+	@Test
+	@DisplayName("Deve aceitar vírgulas e aspas em campos entre aspas, como na RFC 4180")
+	void importCars_WithQuotedComma_KeepsFieldWhole() throws IOException {
+		String csv = "carKey,model,manufacturer,releaseYear,fipeValue,driverDocument,driverBirthdate,mainDriver\r\n"
+				+ "frota-9,\"Strada, cabine \"\"dupla\"\"\",Fiat,2022,95000,90000000009,10/02/1980,true\r\n"
+				+ "frota-10,\"Toro\" Ultra,Fiat,2023,130000,90000000010,10/02/1980,true\r\n";
+
+		CarImportReportDto report = carImportService.importCars(new StringReader(csv));
+
+		assertEquals(1, report.getCarsCreated());
+		assertEquals(1, report.getErrorCount());
+		assertEquals(3, report.getErrors().get(0).getLine());
+		assertTrue(carRepository.findAll().stream()
+				.anyMatch(car -> "Strada, cabine \"dupla\"".equals(car.getModel()) && "Fiat".equals(car.getManufacturer())));
+	}
+}
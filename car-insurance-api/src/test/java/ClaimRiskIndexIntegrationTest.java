@@ -0,0 +1,100 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.repository.ClaimRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.ClaimRiskIndex;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class ClaimRiskIndexIntegrationTest {
+
+	@Autowired
+	private ClaimRiskIndex claimRiskIndex;
+
+	@Autowired
+	private ClaimRepository claimRepository;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Driver firstDriver;
+	private Driver secondDriver;
+
+	@BeforeEach
+	void setUp() {
+		firstDriver = driverRepository.saveAndFlush(new Driver(null, "90000000001", LocalDate.of(1980, 1, 1)));
+		secondDriver = driverRepository.saveAndFlush(new Driver(null, "90000000002", LocalDate.of(1985, 1, 1)));
+		claimRiskIndex.rebuild();
+	}
+
+	@Test
+	@DisplayName("Sinistro gravado deve marcar o condutor no índice")
+	void claimSaved_MarksDriver() {
+		assertFalse(claimRiskIndex.anyDriverHasClaims(List.of(firstDriver.getId())));
+
+		claimRepository.saveAndFlush(new Claim(null, LocalDateTime.now().minusMonths(1), firstDriver, null));
+
+		assertTrue(claimRiskIndex.anyDriverHasClaims(List.of(firstDriver.getId())));
+		assertEquals(Set.of(firstDriver.getId()),
+				claimRiskIndex.driversWithClaims(List.of(firstDriver.getId(), secondDriver.getId())));
+	}
+
+	@Test
+	@DisplayName("Sinistro transferido para outro condutor deve liberar o condutor anterior")
+	void claimUpdated_ToAnotherDriver_ClearsPreviousDriver() {
+		Claim claim = claimRepository.saveAndFlush(
+				new Claim(null, LocalDateTime.now().minusMonths(1), firstDriver, null));
+
+		claim.setDriver(secondDriver);
+		claimRepository.saveAndFlush(claim);
+
+		assertEquals(Set.of(secondDriver.getId()),
+				claimRiskIndex.driversWithClaims(List.of(firstDriver.getId(), secondDriver.getId())));
+		assertFalse(claimRiskIndex.anyDriverHasClaims(List.of(firstDriver.getId())));
+	}
+
+	@Test
+	@DisplayName("Condutor anterior com outro sinistro deve continuar marcado depois da transferência")
+	void claimUpdated_PreviousDriverWithOtherClaim_KeepsPreviousDriver() {
+		claimRepository.saveAndFlush(new Claim(null, LocalDateTime.now().minusMonths(2), firstDriver, null));
+		Claim claim = claimRepository.saveAndFlush(
+				new Claim(null, LocalDateTime.now().minusMonths(1), firstDriver, null));
+
+		claim.setDriver(secondDriver);
+		claimRepository.saveAndFlush(claim);
+
+		assertEquals(Set.of(firstDriver.getId(), secondDriver.getId()),
+				claimRiskIndex.driversWithClaims(List.of(firstDriver.getId(), secondDriver.getId())));
+	}
+
+	@Test
+	@DisplayName("Sinistro gravado fora da aplicação deve ser detectado pela verificação de consistência")
+	void checkConsistency_WithClaimOutsideIndex_Rebuilds() {
+		assertTrue(claimRiskIndex.checkConsistency());
+
+		jdbcTemplate.update("insert into claim (event_date, driver_id) values (?, ?)",
+				LocalDateTime.now().minusMonths(1), firstDriver.getId());
+
+		assertFalse(claimRiskIndex.checkConsistency());
+		assertTrue(claimRiskIndex.anyDriverHasClaims(List.of(firstDriver.getId())));
+		assertTrue(claimRiskIndex.checkConsistency());
+	}
+}
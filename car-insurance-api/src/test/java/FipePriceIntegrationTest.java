@@ -0,0 +1,90 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.FipeVersion;
+import com.car.insurance.api.domain.dto.FipePriceDto;
+import com.car.insurance.api.domain.dto.FipeVersionDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.exception.InvalidFipePriceException;
+import com.car.insurance.api.domain.repository.FipeVersionRepository;
+import com.car.insurance.api.domain.service.FipePriceService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class FipePriceIntegrationTest {
+
+	@Autowired
+	private FipePriceService fipePriceService;
+
+	@Autowired
+	private FipeVersionRepository versionRepository;
+
+	@Test
+	@DisplayName("Deve precificar pela tabela FIPE ativa e usar o valor do carro quando ele não está no catálogo")
+	void priceFor_WithActiveTable_UsesTablePrice() throws CustomBusinessException, IOException {
+		fipePriceService.importPrices("2030-01", Arrays.asList(
+				new FipePriceDto("Tabela", "Modelo A", "2020", 51000f),
+				new FipePriceDto("Tabela", "Modelo B", "2021", 62000f)));
+
+		FipeVersionDto version = fipePriceService.activate("2030-01");
+
+		assertEquals(2, version.getEntries());
+		assertTrue(version.getActive());
+		assertEquals(51000f, fipePriceService.priceFor(new Car(null, "modelo a ", "TABELA", "2020", 1f, new ArrayList<>())));
+		assertEquals(1f, fipePriceService.priceFor(new Car(null, "Modelo C", "Tabela", "2020", 1f, new ArrayList<>())));
+	}
+
+	@Test
+	@DisplayName("Versão ativada por outra instância deve ser carregada na verificação periódica")
+	void refreshActiveVersion_AfterActivationElsewhere_SwapsTable() throws CustomBusinessException, IOException {
+		fipePriceService.importPrices("2030-03", Arrays.asList(new FipePriceDto("Tabela", "Modelo A", "2020", 51000f)));
+		fipePriceService.activate("2030-03");
+		fipePriceService.importPrices("2030-04", Arrays.asList(new FipePriceDto("Tabela", "Modelo A", "2020", 53000f)));
+
+		// ativação gravada por outra instância: só o banco muda
+		versionRepository.deactivateAll();
+		FipeVersion version = versionRepository.findById("2030-04").get();
+		version.setActive(true);
+		version.setActivatedAt(LocalDateTime.now());
+		versionRepository.saveAndFlush(version);
+		Car car = new Car(null, "Modelo A", "Tabela", "2020", 1f, new ArrayList<>());
+		assertEquals(51000f, fipePriceService.priceFor(car));
+
+		fipePriceService.refreshActiveVersion();
+
+		assertEquals("2030-04", fipePriceService.getActiveVersion().getReferenceMonth());
+		assertEquals(53000f, fipePriceService.priceFor(car));
+	}
+
+	@Test
+	@DisplayName("Importação deve recusar item sem preço, sem gravar o lote")
+	void importPrices_WithNullPrice_RejectsBatch() {
+		assertThrows(InvalidFipePriceException.class, () -> fipePriceService.importPrices("2030-05", Arrays.asList(
+				new FipePriceDto("Tabela", "Modelo A", "2020", 51000f),
+				new FipePriceDto("Tabela", "Modelo B", "2021", null))));
+
+		assertTrue(versionRepository.findById("2030-05").isEmpty());
+	}
+
+	@Test
+	@DisplayName("A mesma chave escrita de outra forma deve ficar com o último preço, sem ser tratada como colisão")
+	void activate_WithRepeatedKey_KeepsLastPrice() throws CustomBusinessException, IOException {
+		fipePriceService.importPrices("2030-06", Arrays.asList(
+				new FipePriceDto("Tabela", "Modelo A", "2020", 51000f),
+				new FipePriceDto(" tabela", "MODELO A ", "2020", 52000f)));
+
+		fipePriceService.activate("2030-06");
+		assertEquals(52000f, fipePriceService.priceFor(new Car(null, "Modelo A", "Tabela", "2020", 1f, new ArrayList<>())));
+	}
+}
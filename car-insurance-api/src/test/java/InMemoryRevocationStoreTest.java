@@ -0,0 +1,51 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.service.impl.InMemoryRevocationStore;
+
+public class InMemoryRevocationStoreTest {
+
+	private InMemoryRevocationStore store(int maxEntries) {
+		SecurityProperties properties = new SecurityProperties();
+		properties.setRevocationMaxEntries(maxEntries);
+		return new InMemoryRevocationStore(properties);
+	}
+
+	@DisplayName("Token revogado é reconhecido até expirar")
+	@Test
+	void revokedUntilExpiration() {
+		InMemoryRevocationStore store = store(10);
+		Instant now = Instant.now();
+
+		store.revoke("ativo", now.plusSeconds(600));
+		store.revoke("expirado", now.minusSeconds(1));
+
+		assertTrue(store.isRevoked("ativo"));
+		assertFalse(store.isRevoked("expirado"));
+		assertFalse(store.isRevoked("outro"));
+		assertEquals(1, store.size());
+	}
+
+	@DisplayName("Limite de entradas descarta o token mais próximo de expirar")
+	@Test
+	void evictsEarliestExpirationWhenFull() {
+		InMemoryRevocationStore store = store(2);
+		Instant now = Instant.now();
+
+		store.revoke("primeiro", now.plusSeconds(60));
+		store.revoke("segundo", now.plusSeconds(30));
+		store.revoke("terceiro", now.plusSeconds(90));
+
+		assertTrue(store.isRevoked("primeiro"));
+		assertFalse(store.isRevoked("segundo"));
+		assertTrue(store.isRevoked("terceiro"));
+		assertEquals(2, store.size());
+	}
+}
@@ -0,0 +1,63 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.PricingRule;
+import com.car.insurance.api.domain.PricingRuleType;
+import com.car.insurance.api.domain.pricing.PricingTariff;
+import com.car.insurance.api.domain.repository.PricingRuleRepository;
+import com.car.insurance.api.domain.service.PricingRuleService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class PricingRuleReloadIntegrationTest {
+
+	@Autowired
+	private PricingRuleService pricingRuleService;
+
+	@Autowired
+	private PricingRuleRepository pricingRuleRepository;
+
+	/**
+	 * A tarifa fica em memória fora da transação do teste; depois do rollback ela volta a refletir
+	 * as regras gravadas.
+	 */
+	@AfterTransaction
+	void restoreTariff() {
+		pricingRuleService.reload();
+	}
+
+	@Test
+	@DisplayName("Reload deve passar a usar as regras alteradas, com uma nova versão da tarifa")
+	void reload_AfterRuleChange_SwapsTariff() {
+		PricingTariff before = pricingRuleService.reload();
+		assertEquals(0.06, before.rate(40, false, false), 1e-12);
+
+		for (PricingRule rule : pricingRuleRepository.findByActiveTrue()) {
+			if (rule.getType() == PricingRuleType.BASE_RATE)
+				rule.setActive(false);
+		}
+		pricingRuleRepository.save(new PricingRule(null, PricingRuleType.BASE_RATE, 0.08, null, null, true));
+		pricingRuleRepository.flush();
+
+		PricingTariff reloaded = pricingRuleService.reload();
+
+		assertSame(reloaded, pricingRuleService.currentTariff());
+		assertTrue(reloaded.getVersion() > before.getVersion());
+		assertEquals(0.08, reloaded.rate(40, false, false), 1e-12);
+		assertEquals(0.10, reloaded.rate(20, false, false), 1e-12);
+	}
+
+	@Test
+	@DisplayName("Reload sem mudança nas regras deve manter a mesma tarifa e versão")
+	void reload_WithoutChanges_KeepsTariff() {
+		PricingTariff before = pricingRuleService.reload();
+
+		assertSame(before, pricingRuleService.reload());
+	}
+}
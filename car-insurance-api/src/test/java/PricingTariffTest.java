@@ -0,0 +1,68 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.car.insurance.api.domain.PricingRule;
+import com.car.insurance.api.domain.PricingRuleType;
+import com.car.insurance.api.domain.pricing.PricingTariff;
+
+public class PricingTariffTest {
+
+	private static final boolean[] FLAGS = { false, true };
+
+	@Test
+	@DisplayName("Tarifa padrão deve reproduzir os fatores fixos anteriores para toda idade e combinação de sinistros")
+	void defaults_MatchesLegacyFactors() {
+		assertMatchesLegacy(PricingTariff.defaults());
+	}
+
+	@Test
+	@DisplayName("Tarifa compilada das regras iniciais deve reproduzir os fatores fixos anteriores")
+	void compile_WithSeededRules_MatchesLegacyFactors() {
+		PricingTariff tariff = PricingTariff.compile(List.of(
+				new PricingRule(null, PricingRuleType.BASE_RATE, 0.06, null, null, true),
+				new PricingRule(null, PricingRuleType.MAIN_DRIVER_AGE, 0.02, 18, 25, true),
+				new PricingRule(null, PricingRuleType.DRIVER_CLAIMS, 0.02, null, null, true),
+				new PricingRule(null, PricingRuleType.CAR_CLAIMS, 0.02, null, null, true)), 1);
+
+		assertMatchesLegacy(tariff);
+		assertTrue(tariff.sameRatesAs(PricingTariff.defaults()));
+	}
+
+	@Test
+	@DisplayName("Regras de faixa etária devem se somar e idades fora da tabela devem usar o limite")
+	void compile_WithOverlappingAgeRules_AddsRates() {
+		PricingTariff tariff = PricingTariff.compile(List.of(
+				new PricingRule(null, PricingRuleType.BASE_RATE, 0.05, null, null, true),
+				new PricingRule(null, PricingRuleType.MAIN_DRIVER_AGE, 0.01, null, 30, true),
+				new PricingRule(null, PricingRuleType.MAIN_DRIVER_AGE, 0.03, 70, null, true),
+				new PricingRule(null, PricingRuleType.CAR_CLAIMS, 0.04, null, null, true)), 7);
+
+		assertEquals(7, tariff.getVersion());
+		assertEquals(0.06, tariff.rate(30, false, false), 1e-12);
+		assertEquals(0.05, tariff.rate(31, true, false), 1e-12);
+		assertEquals(0.12, tariff.rate(70, false, true), 1e-12);
+		assertEquals(tariff.rate(PricingTariff.MAX_AGE, false, true), tariff.rate(500, false, true));
+		assertEquals(tariff.rate(0, false, false), tariff.rate(-1, false, false));
+	}
+
+	/**
+	 * Antes da tabela: 0.06 + 0.02 por risco, sendo riscos o condutor principal entre 18 e 25 anos,
+	 * sinistro de algum condutor e sinistro do carro.
+	 */
+	private static void assertMatchesLegacy(PricingTariff tariff) {
+		for (int age = 0; age <= PricingTariff.MAX_AGE; age++) {
+			for (boolean driversHaveClaims : FLAGS) {
+				for (boolean carHasClaims : FLAGS) {
+					int risks = (age >= 18 && age <= 25 ? 1 : 0) + (driversHaveClaims ? 1 : 0) + (carHasClaims ? 1 : 0);
+					assertEquals(0.06 + (0.02 * risks), tariff.rate(age, driversHaveClaims, carHasClaims), 1e-12,
+							"idade " + age + ", sinistro de condutor " + driversHaveClaims + ", sinistro do carro "
+									+ carHasClaims);
+				}
+			}
+		}
+	}
+}
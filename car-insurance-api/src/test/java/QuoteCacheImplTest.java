@@ -0,0 +1,89 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.pricing.QuoteKey;
+import com.car.insurance.api.domain.service.impl.QuoteCacheImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class QuoteCacheImplTest {
+
+	private QuoteCacheImpl quoteCache;
+	private Car car;
+	private Car otherCar;
+
+	@BeforeEach
+	void setUp() {
+		BudgetProperties properties = new BudgetProperties();
+		properties.setQuoteCacheMaxSize(100);
+		properties.setQuoteCacheExpireAfterWriteMinutes(60);
+		quoteCache = new QuoteCacheImpl(properties, new SimpleMeterRegistry());
+
+		car = carWithDriver(1, 10, 100);
+		otherCar = carWithDriver(2, 20, 200);
+	}
+
+	@Test
+	@DisplayName("Cotação repetida para o mesmo carro deve ser servida do cache")
+	void get_WithSameCar_Hits() {
+		quoteCache.put(quoteCache.keyFor(car, 35000f, 1), 1200d);
+
+		assertEquals(1200d, quoteCache.get(quoteCache.keyFor(car, 35000f, 1)));
+		assertNull(quoteCache.get(quoteCache.keyFor(car, 36000f, 1)));
+		assertNull(quoteCache.get(quoteCache.keyFor(car, 35000f, 2)));
+	}
+
+	@Test
+	@DisplayName("Alteração no carro deve invalidar só as cotações dele")
+	void invalidateCar_ChangesOnlyThatCarKey() {
+		quoteCache.put(quoteCache.keyFor(car, 35000f, 1), 1200d);
+		quoteCache.put(quoteCache.keyFor(otherCar, 35000f, 1), 1300d);
+
+		quoteCache.invalidateCar(car.getId());
+
+		assertNull(quoteCache.get(quoteCache.keyFor(car, 35000f, 1)));
+		assertEquals(1300d, quoteCache.get(quoteCache.keyFor(otherCar, 35000f, 1)));
+	}
+
+	@Test
+	@DisplayName("Sinistro do condutor deve invalidar as cotações dos carros em que ele dirige")
+	void claimChanged_ForDriver_ChangesKeysWithThatDriver() {
+		QuoteKey before = quoteCache.keyFor(car, 35000f, 1);
+		quoteCache.put(before, 1200d);
+		quoteCache.put(quoteCache.keyFor(otherCar, 35000f, 1), 1300d);
+
+		quoteCache.claimChanged(100, null);
+
+		QuoteKey after = quoteCache.keyFor(car, 35000f, 1);
+		assertNotEquals(before.getClaimsVersion(), after.getClaimsVersion());
+		assertNull(quoteCache.get(after));
+		assertEquals(1300d, quoteCache.get(quoteCache.keyFor(otherCar, 35000f, 1)));
+	}
+
+	@Test
+	@DisplayName("Sinistro do carro deve invalidar as cotações dele")
+	void claimChanged_ForCar_ChangesThatCarKey() {
+		quoteCache.put(quoteCache.keyFor(car, 35000f, 1), 1200d);
+
+		quoteCache.claimChanged(null, car.getId());
+
+		assertNull(quoteCache.get(quoteCache.keyFor(car, 35000f, 1)));
+	}
+
+	private static Car carWithDriver(int carId, int carDriverId, int driverId) {
+		Car car = new Car(carId, "Fiat Uno", "Fiat", "2020", 35000f, new ArrayList<>());
+		Driver driver = new Driver(driverId, "1234567890" + driverId, LocalDate.of(1980, 1, 1));
+		car.getCarDriver().add(new CarDriver(carDriverId, driver, car, null, true));
+		return car;
+	}
+}
@@ -0,0 +1,97 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.domain.Budget;
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.Customer;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.dto.BudgetRequestDTO;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.repository.BudgetRepository;
+import com.car.insurance.api.domain.repository.CarDriverRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.ClaimRepository;
+import com.car.insurance.api.domain.repository.CustomerRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.BudgetService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class QuoteCacheListenerIntegrationTest {
+
+	private static final float FIPE_VALUE = 40000f;
+
+	@Autowired
+	private BudgetService budgetService;
+
+	@Autowired
+	private BudgetRepository budgetRepository;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private CarDriverRepository carDriverRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private ClaimRepository claimRepository;
+
+	@Test
+	@DisplayName("Sinistro transferido para outro carro deve recalcular a cotação do carro anterior")
+	void claimMovedToAnotherCar_RecomputesPreviousCarQuote() throws CustomBusinessException {
+		Driver driver = driverRepository.save(new Driver(null, "80000000001", LocalDate.of(1980, 1, 1)));
+		Customer customer = customerRepository.save(new Customer(null, "Cliente Cache", driver));
+		Car previousCar = carWithMainDriver("Cache Anterior", driver);
+		Car newCar = carWithMainDriver("Cache Novo", driverRepository.save(
+				new Driver(null, "80000000002", LocalDate.of(1982, 1, 1))));
+		Claim claim = claimRepository.saveAndFlush(
+				new Claim(null, LocalDateTime.now().minusMonths(1), null, previousCar));
+
+		budgetService.createBudget(request(previousCar, customer));
+		claim.setCar(newCar);
+		claimRepository.saveAndFlush(claim);
+		budgetService.createBudget(request(previousCar, customer));
+
+		List<Double> amounts = budgetRepository.findAll().stream()
+				.filter(budget -> budget.getCar().getId().equals(previousCar.getId()))
+				.sorted(Comparator.comparing(Budget::getId))
+				.map(Budget::getAmount)
+				.collect(Collectors.toList());
+		assertEquals(2, amounts.size());
+		assertEquals(FIPE_VALUE * 0.08, amounts.get(0), 0.01);
+		assertEquals(FIPE_VALUE * 0.06, amounts.get(1), 0.01);
+	}
+
+	private Car carWithMainDriver(String model, Driver driver) {
+		Car car = carRepository.save(new Car(null, model, "Cache", "2020", FIPE_VALUE, new ArrayList<>()));
+		car.getCarDriver().add(carDriverRepository.save(new CarDriver(null, driver, car, null, true)));
+		return car;
+	}
+
+	private BudgetRequestDTO request(Car car, Customer customer) {
+		BudgetRequestDTO dto = new BudgetRequestDTO();
+		dto.setCarId(car.getId());
+		dto.setCustomerId(customer.getId());
+		return dto;
+	}
+}
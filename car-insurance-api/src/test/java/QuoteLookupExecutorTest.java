@@ -0,0 +1,97 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.exception.NoMainDriverRegisteredException;
+import com.car.insurance.api.domain.exception.QuoteTimeoutException;
+import com.car.insurance.api.domain.service.impl.QuoteLookupExecutor;
+
+public class QuoteLookupExecutorTest {
+
+	private QuoteLookupExecutor executor;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		BudgetProperties properties = new BudgetProperties();
+		properties.setLookupPoolSize(1);
+		properties.setLookupQueueCapacity(1);
+		properties.setLookupTimeoutMs(100);
+		executor = new QuoteLookupExecutor(properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.destroy();
+	}
+
+	@Test
+	@DisplayName("Consulta que passa do prazo deve lançar QuoteTimeoutException")
+	void await_AfterDeadline_ThrowsTimeout() {
+		Future<Boolean> lookup = executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+		assertThrows(QuoteTimeoutException.class, () -> executor.await(lookup, executor.deadline()));
+	}
+
+	@Test
+	@DisplayName("Cancelar deve interromper a consulta em andamento")
+	void cancel_RunningLookup_InterruptsIt() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Future<Boolean> lookup = executor.submit(() -> {
+			started.countDown();
+			try {
+				return release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				interrupted.countDown();
+				throw ex;
+			}
+		});
+		assertTrue(started.await(1, TimeUnit.SECONDS));
+
+		executor.cancel(lookup);
+
+		assertTrue(lookup.isCancelled());
+		assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("Exceções da consulta devem chegar sem o ExecutionException")
+	void await_WithFailedLookup_UnwrapsCause() {
+		NoMainDriverRegisteredException business = new NoMainDriverRegisteredException("Sem condutor principal");
+		IllegalArgumentException runtime = new IllegalArgumentException("id inválido");
+
+		Future<Object> businessLookup = executor.submit(() -> {
+			throw business;
+		});
+		assertSame(business, assertThrows(NoMainDriverRegisteredException.class,
+				() -> executor.await(businessLookup, executor.deadline())));
+
+		Future<Object> runtimeLookup = executor.submit(() -> {
+			throw runtime;
+		});
+		assertSame(runtime, assertThrows(IllegalArgumentException.class,
+				() -> executor.await(runtimeLookup, executor.deadline())));
+	}
+
+	@Test
+	@DisplayName("Com a fila cheia a consulta deve ser recusada em vez de rodar na thread da requisição")
+	void submit_WithFullQueue_FailsWithTimeout() {
+		executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+		executor.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+		Future<Thread> rejected = executor.submit(Thread::currentThread);
+
+		assertTrue(rejected.isDone());
+		assertThrows(QuoteTimeoutException.class, () -> executor.await(rejected, executor.deadline()));
+	}
+}
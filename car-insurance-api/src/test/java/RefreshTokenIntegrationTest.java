@@ -0,0 +1,55 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.car.insurance.api.security.dto.TokenResponseDto;
+import com.car.insurance.api.security.exception.InvalidRefreshTokenException;
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.service.TokenService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class RefreshTokenIntegrationTest {
+
+	private static final String ISSUER = "http://localhost/api/v1/login";
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Test
+	@DisplayName("Refresh deve emitir um novo par e o token de acesso deve manter usuário e scopes")
+	void refresh_WithValidToken_RotatesTokens() throws InvalidRefreshTokenException {
+		TokenResponseDto login = refreshTokenService.issue("financialclient@email.com",
+				List.of("FINANCIAL_INFORMATION_API"), ISSUER);
+
+		TokenResponseDto refreshed = refreshTokenService.refresh(login.getRefreshToken(), ISSUER);
+
+		assertNotEquals(login.getRefreshToken(), refreshed.getRefreshToken());
+		assertEquals("financialclient@email.com", tokenService.verify(refreshed.getToken()).getSubject());
+		assertEquals(List.of("FINANCIAL_INFORMATION_API"), tokenService.verify(refreshed.getToken()).getRoles());
+		assertThrows(JWTVerificationException.class, () -> tokenService.verify(refreshed.getRefreshToken()));
+	}
+
+	@Test
+	@DisplayName("Reuso de um refresh token já trocado deve revogar toda a família")
+	void refresh_WithReusedToken_RevokesFamily() throws InvalidRefreshTokenException {
+		TokenResponseDto login = refreshTokenService.issue("financialclient@email.com",
+				List.of("FINANCIAL_INFORMATION_API"), ISSUER);
+		TokenResponseDto refreshed = refreshTokenService.refresh(login.getRefreshToken(), ISSUER);
+
+		assertThrows(InvalidRefreshTokenException.class,
+				() -> refreshTokenService.refresh(login.getRefreshToken(), ISSUER));
+		assertThrows(InvalidRefreshTokenException.class,
+				() -> refreshTokenService.refresh(refreshed.getRefreshToken(), ISSUER));
+	}
+}
@@ -0,0 +1,78 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.dto.ValidateTokenBatchRequestDto;
+import com.car.insurance.api.security.dto.ValidateTokenRequestDto;
+import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
+import com.car.insurance.api.security.exception.TokenRevokedException;
+import com.car.insurance.api.security.repository.RevokedTokenRepository;
+import com.car.insurance.api.security.service.AuthService;
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.service.RevocationStore;
+import com.car.insurance.api.security.service.impl.JpaRevocationStore;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class RevocationStoreIntegrationTest {
+
+	@Autowired
+	private RevocationStore revocationStore;
+
+	@Autowired
+	private RevokedTokenRepository repository;
+
+	@Autowired
+	private SecurityProperties properties;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Test
+	@DisplayName("Token revogado em uma instância deve ser reconhecido pelas outras após a sincronização")
+	void revoke_OnOneNode_IsSeenByOtherNodeAfterPoll() {
+		JpaRevocationStore otherNode = new JpaRevocationStore(repository, properties);
+		otherNode.poll();
+
+		revocationStore.revoke("token-revogado", Instant.now().plusSeconds(600));
+
+		assertTrue(revocationStore.isRevoked("token-revogado"));
+		assertFalse(otherNode.isRevoked("token-revogado"));
+		otherNode.poll();
+		assertTrue(otherNode.isRevoked("token-revogado"));
+		assertTrue(repository.existsByTokenId("token-revogado"));
+	}
+
+	@Test
+	@DisplayName("Token do logoff deve ser recusado pelo validate-token, individual e em lote")
+	void validateAccess_AfterLogout_RejectsToken() throws Exception {
+		String token = refreshTokenService.issue("financialclient@email.com", List.of("FINANCIAL_INFORMATION_API"),
+				"http://localhost/api/v1/login").getToken();
+		ValidateTokenRequestDto request = new ValidateTokenRequestDto(token, "/af/financial-information/v1/test",
+				"GET");
+		assertTrue(authService.validateAccess(request).getAuthorized());
+
+		MockHttpServletRequest logout = new MockHttpServletRequest("POST", "/api/v1/logoff");
+		logout.addHeader("Authorization", "Bearer " + token);
+		authService.logout(logout);
+
+		assertThrows(TokenRevokedException.class, () -> authService.validateAccess(request));
+		List<ValidateTokenResponseDto> batch = authService.validateAccess(new ValidateTokenBatchRequestDto(token,
+				List.of(new ValidateTokenRequestDto(null, "/af/financial-information/v1/test", "GET"))));
+		assertFalse(batch.get(0).getAuthenticated());
+		assertFalse(batch.get(0).getAuthorized());
+		assertEquals("Token revogado.", batch.get(0).getMessage());
+	}
+}
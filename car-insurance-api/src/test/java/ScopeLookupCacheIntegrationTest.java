@@ -0,0 +1,71 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.security.domain.Scope;
+import com.car.insurance.api.security.repository.RoleRepository;
+import com.car.insurance.api.security.service.ScopeLookupCache;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class ScopeLookupCacheIntegrationTest {
+
+	private static final String EMAIL = "financialclient@email.com";
+
+	@Autowired
+	private AuthenticationManager authenticationManager;
+
+	@Autowired
+	private ScopeLookupCache scopeLookupCache;
+
+	@Autowired
+	private RoleRepository scopeRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("Login deve conferir a senha contra o hash atual do banco")
+	void authenticate_WithChangedPassword_ChecksCurrentHash() {
+		authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, "password"));
+
+		jdbcTemplate.update("update \"user\" set password = ? where email = ?", passwordEncoder.encode("nova"), EMAIL);
+		entityManager.clear();
+
+		assertThrows(BadCredentialsException.class,
+				() -> authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, "password")));
+		assertTrue(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, "nova"))
+				.isAuthenticated());
+	}
+
+	@Test
+	@DisplayName("Alteração de scope deve invalidar o cache de scopes")
+	void save_WithRenamedScope_InvalidatesCache() {
+		Scope scope = scopeRepository.findAll().get(0);
+		String name = scope.getName();
+		assertEquals(scope.getId(), scopeLookupCache.getScopeId(name));
+
+		scope.setName(name + "_RENOMEADO");
+		scopeRepository.saveAndFlush(scope);
+
+		assertNull(scopeLookupCache.getScopeId(name));
+		assertEquals(scope.getId(), scopeLookupCache.getScopeId(name + "_RENOMEADO"));
+	}
+}
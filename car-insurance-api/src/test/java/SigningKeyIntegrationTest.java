@@ -0,0 +1,90 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.SigningKey;
+import com.car.insurance.api.security.repository.SigningKeyRepository;
+import com.car.insurance.api.security.service.SigningKeyService;
+import com.car.insurance.api.security.service.TokenService;
+import com.car.insurance.api.security.signing.KeyMaterial;
+import com.car.insurance.api.security.signing.PrivateKeyCipher;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class SigningKeyIntegrationTest {
+
+	private static final String ISSUER = "http://localhost/api/v1/login";
+
+	@Autowired
+	private SigningKeyService signingKeyService;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private SigningKeyRepository signingKeyRepository;
+
+	@Autowired
+	private SecurityProperties properties;
+
+	@Test
+	@DisplayName("Token deve ser assinado em RS256 com o kid de uma chave publicada no JWKS")
+	void issueAccessToken_WithRsaKey_PublishesKidInJwks() {
+		DecodedJWT token = JWT.decode(tokenService.issueAccessToken("financialclient@email.com",
+				List.of("FINANCIAL_INFORMATION_API"), ISSUER, "familia"));
+
+		assertEquals("RS256", token.getAlgorithm());
+		assertTrue(kids().contains(token.getKeyId()));
+	}
+
+	@Test
+	@DisplayName("Rotação deve pré-publicar a nova chave sem invalidar os tokens já emitidos")
+	void rotate_WithIssuedToken_KeepsPreviousKey() {
+		String before = tokenService.issueAccessToken("financialclient@email.com",
+				List.of("FINANCIAL_INFORMATION_API"), ISSUER, "familia");
+		List<String> kidsBefore = kids();
+
+		signingKeyService.rotate();
+
+		List<String> kidsAfter = kids();
+		assertEquals(kidsBefore.size() + 1, kidsAfter.size());
+		assertTrue(kidsAfter.containsAll(kidsBefore));
+		assertEquals("financialclient@email.com", tokenService.verify(before).getSubject());
+		String after = tokenService.issueAccessToken("financialclient@email.com",
+				List.of("FINANCIAL_INFORMATION_API"), ISSUER, "familia");
+		assertEquals(JWT.decode(before).getKeyId(), JWT.decode(after).getKeyId());
+	}
+
+	@Test
+	@DisplayName("Chave privada deve ser gravada cifrada e só decifrar com o kid da própria linha")
+	void signingKey_WhenStored_IsEncrypted() {
+		signingKeyService.rotate();
+		PrivateKeyCipher cipher = new PrivateKeyCipher(properties.getSigningKeyEncryptionSecret());
+		List<SigningKey> stored = signingKeyRepository.findAll();
+
+		assertFalse(stored.isEmpty());
+		for (SigningKey key : stored) {
+			assertThrows(IllegalStateException.class,
+					() -> KeyMaterial.decodePrivate(key.getAlgorithm(), key.getPrivateKey()));
+			assertNotNull(KeyMaterial.decodePrivate(key.getAlgorithm(), cipher.decrypt(key.getKid(), key.getPrivateKey())));
+			assertThrows(IllegalStateException.class, () -> cipher.decrypt("outro-kid", key.getPrivateKey()));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> kids() {
+		List<Map<String, Object>> keys = (List<Map<String, Object>>) signingKeyService.jwks().get("keys");
+		return keys.stream().map(key -> (String) key.get("kid")).collect(Collectors.toList());
+	}
+}
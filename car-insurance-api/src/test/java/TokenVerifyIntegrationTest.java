@@ -0,0 +1,104 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.car.insurance.api.security.domain.VerifiedToken;
+import com.car.insurance.api.security.service.SigningKeyService;
+import com.car.insurance.api.security.service.TokenService;
+import com.car.insurance.api.security.signing.SigningKeySet.ActiveKey;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class TokenVerifyIntegrationTest {
+
+	private static final String ISSUER = "http://localhost/api/v1/login";
+	private static final String SUBJECT = "financialclient@email.com";
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Autowired
+	private SigningKeyService signingKeyService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("Verificação repetida do mesmo token deve ser servida do cache")
+	void verify_SameTokenTwice_HitsCache() {
+		String token = tokenService.issueAccessToken(SUBJECT, List.of("FINANCIAL_INFORMATION_API"), ISSUER, "familia");
+		double hitsBefore = cacheHits();
+
+		VerifiedToken first = tokenService.verify(token);
+		VerifiedToken second = tokenService.verify(token);
+
+		assertSame(first, second);
+		assertEquals(hitsBefore + 1, cacheHits());
+	}
+
+	@Test
+	@DisplayName("Token expirado deve sair do cache e ser recusado")
+	void verify_AfterExpiration_Rejects() throws InterruptedException {
+		ActiveKey key = signingKeyService.signingKey();
+		Instant expiresAt = Instant.now().plusSeconds(2);
+		String token = JWT.create().withKeyId(key.getKid())
+				.withSubject(SUBJECT)
+				.withJWTId(UUID.randomUUID().toString())
+				.withIssuer(ISSUER)
+				.withExpiresAt(expiresAt)
+				.withClaim(TokenService.ROLES_CLAIM, List.of("FINANCIAL_INFORMATION_API"))
+				.sign(key.getAlgorithm());
+		assertEquals(SUBJECT, tokenService.verify(token).getSubject());
+
+		Thread.sleep(Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis()) + 1500);
+
+		assertThrows(TokenExpiredException.class, () -> tokenService.verify(token));
+	}
+
+	@Test
+	@DisplayName("Refresh token não deve ser aceito como token de acesso")
+	void verify_WithRefreshToken_Rejects() {
+		String refreshToken = tokenService.issueRefreshToken(SUBJECT, List.of("FINANCIAL_INFORMATION_API"), ISSUER,
+				UUID.randomUUID().toString(), "familia", Instant.now().plusSeconds(600));
+
+		assertThrows(JWTVerificationException.class, () -> tokenService.verify(refreshToken));
+	}
+
+	@Test
+	@DisplayName("Token adulterado deve ser recusado mesmo com um token válido do mesmo usuário em cache")
+	void verify_WithTamperedToken_RejectsWhileValidIsCached() {
+		String token = tokenService.issueAccessToken(SUBJECT, List.of("FINANCIAL_INFORMATION_API"), ISSUER, "familia");
+		tokenService.verify(token);
+
+		String[] parts = token.split("\\.");
+		String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+				.replace("FINANCIAL_INFORMATION_API", "ADMIN");
+		String tampered = parts[0] + "."
+				+ Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+				+ "." + parts[2];
+
+		assertThrows(SignatureVerificationException.class, () -> tokenService.verify(tampered));
+		assertEquals(List.of("FINANCIAL_INFORMATION_API"), tokenService.verify(token).getRoles());
+	}
+
+	private double cacheHits() {
+		return meterRegistry.get("cache.gets").tag("cache", "verified-tokens").tag("result", "hit")
+				.functionCounter().count();
+	}
+}
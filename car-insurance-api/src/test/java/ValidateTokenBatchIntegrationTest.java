@@ -0,0 +1,50 @@
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.car.insurance.api.security.dto.ValidateTokenBatchRequestDto;
+import com.car.insurance.api.security.dto.ValidateTokenRequestDto;
+import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
+import com.car.insurance.api.security.service.AuthService;
+import com.car.insurance.api.security.service.TokenService;
+
+@SpringBootTest(classes = com.car.insurance.api.CarInsuranceApiApplication.class)
+@Transactional
+public class ValidateTokenBatchIntegrationTest {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Test
+	@DisplayName("Deve responder cada item do lote na ordem, sem interromper nas falhas")
+	void validateAccess_WithBatch_AnswersEachItem() throws Exception {
+		String token = tokenService.issueAccessToken("financialclient@email.com", List.of("FINANCIAL_INFORMATION_API"),
+				"http://localhost/api/v1/login", "familia");
+
+		List<ValidateTokenResponseDto> responses = authService.validateAccess(new ValidateTokenBatchRequestDto(token,
+				Arrays.asList(
+						new ValidateTokenRequestDto(null, "/af/financial-information/v1/test", "GET"),
+						new ValidateTokenRequestDto(null, "/af/coupon-affinity/v1/test", "GET"),
+						new ValidateTokenRequestDto(null, "/inexistente", "GET"),
+						new ValidateTokenRequestDto("invalido", "/af/financial-information/v1/test", "GET"))));
+
+		assertEquals(4, responses.size());
+		assertTrue(responses.get(0).getAuthorized());
+		assertEquals("financial-information-api", responses.get(0).getService());
+		assertTrue(responses.get(1).getAuthenticated());
+		assertFalse(responses.get(1).getAuthorized());
+		assertFalse(responses.get(2).getAuthorized());
+		assertFalse(responses.get(3).getAuthenticated());
+		assertFalse(responses.get(3).getAuthorized());
+	}
+}
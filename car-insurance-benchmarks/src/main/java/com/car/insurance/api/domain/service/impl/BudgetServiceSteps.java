@@ -0,0 +1,32 @@
+package com.car.insurance.api.domain.service.impl;
+
+import java.util.List;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.dto.BudgetDriverRow;
+import com.car.insurance.api.domain.dto.BudgetResponseDto;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+
+/**
+ * Passos do BudgetServiceImpl visíveis só no pacote, expostos aos benchmarks por uma classe do
+ * mesmo pacote em vez de reflexão.
+ */
+public final class BudgetServiceSteps {
+
+	private BudgetServiceSteps() {
+	}
+
+	public static double evaluateRisks(BudgetServiceImpl service, Car car, long deadline)
+			throws CustomBusinessException {
+		return service.evaluateRisks(car, deadline);
+	}
+
+	public static double calculateAmount(BudgetServiceImpl service, Car car, long deadline)
+			throws CustomBusinessException {
+		return service.calculateAmount(car, deadline);
+	}
+
+	public static BudgetResponseDto mountResponse(BudgetServiceImpl service, List<BudgetDriverRow> rows) {
+		return service.mountResponse(rows);
+	}
+}
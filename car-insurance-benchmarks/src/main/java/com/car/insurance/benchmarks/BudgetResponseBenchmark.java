@@ -0,0 +1,69 @@
+package com.car.insurance.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.car.insurance.api.domain.dto.BudgetDriverRow;
+import com.car.insurance.api.domain.dto.BudgetResponseDto;
+import com.car.insurance.api.domain.service.impl.BudgetServiceImpl;
+import com.car.insurance.api.domain.service.impl.BudgetServiceSteps;
+import com.car.insurance.benchmarks.support.Fixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Montagem do BudgetResponseDto a partir das linhas da consulta e serialização com o mesmo
+ * ObjectMapper que o Spring configura para a API.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BudgetResponseBenchmark {
+
+	@Param({ "1", "4", "16" })
+	public int drivers;
+
+	private BudgetServiceImpl service;
+	private List<BudgetDriverRow> rows;
+	private BudgetResponseDto response;
+	private ObjectMapper objectMapper;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		service = new BudgetServiceImpl();
+		rows = Fixtures.responseRows(Fixtures.car(1, drivers, 1));
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		response = mountResponse();
+	}
+
+	@Benchmark
+	public BudgetResponseDto mountResponse() {
+		return BudgetServiceSteps.mountResponse(service, rows);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws Exception {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] mountAndSerialize() throws Exception {
+		return objectMapper.writeValueAsBytes(BudgetServiceSteps.mountResponse(service, rows));
+	}
+}
@@ -0,0 +1,104 @@
+package com.car.insurance.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.service.CarService;
+import com.car.insurance.api.domain.exception.CustomBusinessException;
+import com.car.insurance.api.domain.service.ClaimService;
+import com.car.insurance.api.domain.service.impl.BudgetServiceImpl;
+import com.car.insurance.api.domain.service.impl.BudgetServiceSteps;
+import com.car.insurance.benchmarks.support.Fixtures;
+import com.car.insurance.benchmarks.support.H2Context;
+import com.car.insurance.benchmarks.support.Stubs;
+
+/**
+ * Avaliação de risco e precificação de um carro com N condutores, com sinistros consultados em
+ * memória (STUB) ou no H2 (H2).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PricingBenchmark {
+
+	public enum Lookups {
+		STUB, H2
+	}
+
+	@Param({ "1", "4", "16" })
+	public int drivers;
+
+	@Param({ "STUB", "H2" })
+	public Lookups lookups;
+
+	private ConfigurableApplicationContext context;
+	private Car car;
+	private List<Integer> carIds;
+	private BudgetServiceImpl uncached;
+	private BudgetServiceImpl cached;
+	private long deadline = Long.MAX_VALUE;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		ClaimService claimService;
+		if (lookups == Lookups.STUB) {
+			car = Fixtures.car(1, drivers, 1);
+			claimService = new Stubs.InMemoryClaimService(Set.of(drivers), Set.of());
+		} else {
+			context = H2Context.start();
+			car = H2Context.persistCar(context, drivers);
+			claimService = H2Context.repositoryClaimService(context);
+		}
+		CarService carService = new Stubs.FixedCarService(List.of(car));
+		carIds = List.of(car.getId());
+		uncached = Fixtures.budgetService(carService, claimService, new Stubs.MissingQuoteCache());
+		cached = Fixtures.budgetService(carService, claimService, Fixtures.quoteCache());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (context != null)
+			context.close();
+	}
+
+	@Benchmark
+	public double evaluateRisks() throws CustomBusinessException {
+		return BudgetServiceSteps.evaluateRisks(uncached, car, deadline);
+	}
+
+	@Benchmark
+	public double calculateAmount() throws CustomBusinessException {
+		return BudgetServiceSteps.calculateAmount(uncached, car, deadline);
+	}
+
+	@Benchmark
+	public double calculateAmountCached() throws CustomBusinessException {
+		return BudgetServiceSteps.calculateAmount(cached, car, deadline);
+	}
+
+	@Benchmark
+	public Map<Integer, Double> priceCars() {
+		return uncached.priceCars(carIds);
+	}
+}
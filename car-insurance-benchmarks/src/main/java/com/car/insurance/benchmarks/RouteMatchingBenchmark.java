@@ -0,0 +1,95 @@
+package com.car.insurance.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.car.insurance.api.security.authorization.AccessDecisionTable;
+import com.car.insurance.api.security.authorization.AccessDecisionTable.ResourceRule;
+import com.car.insurance.api.security.domain.Resource;
+import com.car.insurance.api.security.domain.ResourceScope;
+
+/**
+ * Busca na tabela de acesso com dezenas de milhares de recursos, metade com parâmetros ou curingas.
+ * O tempo deve ficar estável com o aumento de recursos, já que a busca depende só da profundidade
+ * do caminho.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RouteMatchingBenchmark {
+
+	@Param({ "1000", "10000", "50000" })
+	public int resources;
+
+	private AccessDecisionTable table;
+	private String literalPath;
+	private String parameterPath;
+	private String catchAllPath;
+	private String missPath;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		List<Resource> all = new ArrayList<>(resources);
+		for (int i = 0; i < resources; i++) {
+			String prefix = "/api/v1/service-" + (i / 3);
+			switch (i % 3) {
+			case 0:
+				all.add(resource(i, prefix + "/items/export"));
+				break;
+			case 1:
+				all.add(resource(i, prefix + "/items/{id}"));
+				break;
+			default:
+				all.add(resource(i, prefix + "/files/**"));
+			}
+		}
+		table = AccessDecisionTable.compile(List.of(), all, List.<ResourceScope>of(), 1);
+		String service = "/api/v1/service-" + (resources / 6);
+		literalPath = service + "/items/export";
+		parameterPath = service + "/items/42";
+		catchAllPath = service + "/files/2030/01/tabela.csv";
+		missPath = service + "/unknown/42";
+	}
+
+	private static Resource resource(int id, String urn) {
+		return new Resource(id, urn, "GET", "service-" + id, new HashSet<>());
+	}
+
+	@Benchmark
+	public ResourceRule literal() {
+		return table.find("GET", literalPath);
+	}
+
+	@Benchmark
+	public ResourceRule parameter() {
+		return table.find("GET", parameterPath);
+	}
+
+	@Benchmark
+	public ResourceRule catchAll() {
+		return table.find("GET", catchAllPath);
+	}
+
+	@Benchmark
+	public ResourceRule miss() {
+		return table.find("GET", missPath);
+	}
+}
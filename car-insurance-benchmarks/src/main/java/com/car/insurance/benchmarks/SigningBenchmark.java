@@ -0,0 +1,61 @@
+package com.car.insurance.benchmarks;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.car.insurance.api.security.service.impl.TokenServiceImpl;
+import com.car.insurance.benchmarks.support.SecurityFixtures;
+
+/**
+ * Custo de assinar e de verificar a assinatura por algoritmo. A verificação usa o refresh token,
+ * que não passa pelo cache de tokens verificados.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SigningBenchmark {
+
+	private static final List<String> ROLES = List.of(SecurityFixtures.ROLE);
+	private static final String ISSUER = "http://localhost:8081/api/v1/login";
+
+	@Param({ "HS256", "RS256", "ES256" })
+	public String algorithm;
+
+	private TokenServiceImpl tokenService;
+	private String refreshToken;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		tokenService = SecurityFixtures.tokenService(algorithm);
+		refreshToken = tokenService.issueRefreshToken(SecurityFixtures.USERNAME, ROLES, ISSUER, "jti", "familia",
+				Instant.now().plusSeconds(3600));
+	}
+
+	@Benchmark
+	public String issueAccessToken() {
+		return tokenService.issueAccessToken(SecurityFixtures.USERNAME, ROLES, ISSUER, "familia");
+	}
+
+	@Benchmark
+	public DecodedJWT verifySignature() {
+		return tokenService.verifyRefreshToken(refreshToken);
+	}
+}
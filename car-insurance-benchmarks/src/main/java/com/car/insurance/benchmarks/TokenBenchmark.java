@@ -0,0 +1,141 @@
+package com.car.insurance.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.Payload;
+import com.car.insurance.api.security.config.CustomAuthenticationFilter;
+import com.car.insurance.api.security.config.CustomAuthorizationFilter;
+import com.car.insurance.api.security.service.TokenService;
+import com.car.insurance.api.security.service.impl.TokenServiceImpl;
+import com.car.insurance.benchmarks.support.SecurityFixtures;
+
+/**
+ * Custos fixos de autenticação: emissão do token no login, verificação pelo TokenServiceImpl,
+ * consulta à blacklist e o filtro de autorização completo de uma requisição.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TokenBenchmark {
+
+	private static final MethodHandle SUCCESSFUL_AUTHENTICATION = SecurityFixtures.protectedMethod(
+			CustomAuthenticationFilter.class, "successfulAuthentication", MethodType.methodType(void.class,
+					HttpServletRequest.class, HttpServletResponse.class, FilterChain.class, Authentication.class));
+	private static final MethodHandle DO_FILTER_INTERNAL = SecurityFixtures.protectedMethod(
+			CustomAuthorizationFilter.class, "doFilterInternal",
+			MethodType.methodType(void.class, HttpServletRequest.class, HttpServletResponse.class, FilterChain.class));
+
+	private TokenServiceImpl tokenService;
+	private CustomAuthenticationFilter authenticationFilter;
+	private CustomAuthorizationFilter authorizationFilter;
+	private HttpServletRequest loginRequest;
+	private HttpServletRequest authorizedRequest;
+	private HttpServletResponse authorizedResponse;
+	private FilterChain chain = SecurityFixtures.NO_OP_CHAIN;
+	private Authentication authentication;
+	private String token;
+
+	/**
+	 * Tokens revogados do mesmo usuário e mesmo tamanho do token consultado, que nunca está revogado:
+	 * mede o caso comum, resolvido no filtro de Bloom.
+	 */
+	@State(Scope.Benchmark)
+	public static class Blacklist {
+
+		@Param({ "0", "1000", "100000" })
+		public int blacklistSize;
+
+		private TokenServiceImpl tokenService;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			tokenService = SecurityFixtures.tokenService();
+			Algorithm algorithm = Algorithm.HMAC256(SecurityFixtures.SECRET);
+			long base = System.currentTimeMillis() + 3_600_000L;
+			for (int i = 0; i < blacklistSize; i++)
+				tokenService.addToBlackList(JWT.create().withSubject(SecurityFixtures.USERNAME)
+						.withExpiresAt(new Date(base + i * 1000L))
+						.withClaim(TokenService.ROLES_CLAIM, List.of(SecurityFixtures.ROLE))
+						.sign(algorithm));
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		tokenService = SecurityFixtures.tokenService();
+		authenticationFilter = SecurityFixtures.authenticationFilter(tokenService);
+		authorizationFilter = SecurityFixtures.authorizationFilter(tokenService);
+		loginRequest = SecurityFixtures.loginRequest();
+		authentication = SecurityFixtures.authentication();
+		token = SecurityFixtures.login(authenticationFilter, SUCCESSFUL_AUTHENTICATION);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/insurance/budget/1");
+		request.addHeader("Authorization", "Bearer " + token);
+		authorizedRequest = request;
+		authorizedResponse = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse issueToken() throws Throwable {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		SUCCESSFUL_AUTHENTICATION.invokeExact(authenticationFilter, loginRequest, (HttpServletResponse) response,
+				chain, authentication);
+		return response;
+	}
+
+	@Benchmark
+	public String getUserNameFromToken() {
+		return tokenService.getUserNameFromToken(token);
+	}
+
+	@Benchmark
+	public String[] getRolesFromToken() {
+		return tokenService.getRolesFromToken(token);
+	}
+
+	@Benchmark
+	public Payload getTokenPayload() {
+		return tokenService.getTokenPayload(token);
+	}
+
+	@Benchmark
+	public boolean isBlackListed(Blacklist blacklist) {
+		return blacklist.tokenService.isBlackListed(token);
+	}
+
+	@Benchmark
+	public Authentication authorizeRequest() throws Throwable {
+		DO_FILTER_INTERNAL.invokeExact(authorizationFilter, authorizedRequest, authorizedResponse, chain);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+}
@@ -0,0 +1,62 @@
+package com.car.insurance.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.car.insurance.api.security.dto.ValidateTokenRequestDto;
+import com.car.insurance.api.security.dto.ValidateTokenResponseDto;
+import com.car.insurance.api.security.service.AuthService;
+import com.car.insurance.api.security.service.TokenService;
+import com.car.insurance.benchmarks.support.H2Context;
+import com.car.insurance.benchmarks.support.SecurityFixtures;
+
+/**
+ * AuthServiceImpl.validateAccess com a tabela de acesso compilada dos recursos e escopos
+ * cadastrados no H2 na subida da aplicação. O token é emitido pela chave de assinatura do próprio contexto.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidateAccessBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private AuthService authService;
+	private ValidateTokenRequestDto request;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = H2Context.start();
+		authService = context.getBean(AuthService.class);
+		TokenService tokenService = context.getBean(TokenService.class);
+		String token = tokenService.issueAccessToken(SecurityFixtures.USERNAME, List.of(SecurityFixtures.ROLE),
+				"http://localhost:8081/api/v1/login", "benchmark");
+		request = new ValidateTokenRequestDto(token, "/af/financial-information/v1/test", "GET");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public ValidateTokenResponseDto validateAccess() throws Exception {
+		return authService.validateAccess(request);
+	}
+}
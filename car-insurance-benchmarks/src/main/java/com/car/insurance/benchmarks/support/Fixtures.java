@@ -0,0 +1,82 @@
+package com.car.insurance.benchmarks.support;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.config.BudgetProperties;
+import com.car.insurance.api.domain.dto.BudgetDriverRow;
+import com.car.insurance.api.domain.service.CarService;
+import com.car.insurance.api.domain.service.ClaimService;
+import com.car.insurance.api.domain.service.QuoteCache;
+import com.car.insurance.api.domain.service.impl.BudgetServiceImpl;
+import com.car.insurance.api.domain.service.impl.FipePriceServiceImpl;
+import com.car.insurance.api.domain.service.impl.PricingRuleServiceImpl;
+import com.car.insurance.api.domain.service.impl.QuoteCacheImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Monta grafos sintéticos de carro/condutores e instâncias do BudgetServiceImpl com os
+ * colaboradores injetados por reflexão, do mesmo jeito que o Spring faria.
+ */
+public final class Fixtures {
+
+	private static final LocalDate FIRST_BIRTHDATE = LocalDate.of(1960, 1, 1);
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Carro com o número pedido de condutores; o primeiro é o principal. Os ids dos condutores
+	 * começam em firstDriverId.
+	 */
+	public static Car car(int carId, int drivers, int firstDriverId) {
+		Car car = new Car(carId, "Modelo " + carId, "Fabricante", "2020", 50000f, new ArrayList<>());
+		for (int i = 0; i < drivers; i++) {
+			Driver driver = new Driver(firstDriverId + i, String.format("%011d", firstDriverId + i),
+					FIRST_BIRTHDATE.plusYears(i % 45));
+			car.getCarDriver().add(new CarDriver(firstDriverId + i, driver, car, null, i == 0));
+		}
+		return car;
+	}
+
+	public static List<BudgetDriverRow> responseRows(Car car) {
+		List<BudgetDriverRow> rows = new ArrayList<>();
+		for (CarDriver carDriver : car.getCarDriver())
+			rows.add(new BudgetDriverRow(3000.0, car.getModel(), car.getManufacturer(), car.getReleaseYear(),
+					carDriver.getId(), carDriver.getDriver().getDocument(), carDriver.getDriver().getBirthdate(),
+					carDriver.getMainDriver()));
+		return rows;
+	}
+
+	public static BudgetProperties properties() {
+		BudgetProperties properties = new BudgetProperties();
+		properties.setQuoteCacheMaxSize(10_000);
+		properties.setQuoteCacheExpireAfterWriteMinutes(60);
+		properties.setLookupTimeoutMs(2000);
+		return properties;
+	}
+
+	public static QuoteCache quoteCache() {
+		return new QuoteCacheImpl(properties(), new SimpleMeterRegistry());
+	}
+
+	public static BudgetServiceImpl budgetService(CarService carService, ClaimService claimService,
+			QuoteCache quoteCache) {
+		BudgetServiceImpl service = new BudgetServiceImpl();
+		ReflectionTestUtils.setField(service, "carService", carService);
+		ReflectionTestUtils.setField(service, "claimService", claimService);
+		// sem reload nem tabela FIPE ativa: tarifa padrão e o fipeValue do próprio carro
+		ReflectionTestUtils.setField(service, "pricingRuleService", new PricingRuleServiceImpl());
+		ReflectionTestUtils.setField(service, "fipePriceService", new FipePriceServiceImpl());
+		ReflectionTestUtils.setField(service, "quoteCache", quoteCache);
+		ReflectionTestUtils.setField(service, "properties", properties());
+		return service;
+	}
+}
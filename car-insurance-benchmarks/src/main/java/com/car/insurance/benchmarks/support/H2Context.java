@@ -0,0 +1,78 @@
+package com.car.insurance.benchmarks.support;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.car.insurance.api.CarInsuranceApiApplication;
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.CarDriver;
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.repository.CarDriverRepository;
+import com.car.insurance.api.domain.repository.CarRepository;
+import com.car.insurance.api.domain.repository.ClaimRepository;
+import com.car.insurance.api.domain.repository.DriverRepository;
+import com.car.insurance.api.domain.service.ClaimService;
+import com.car.insurance.api.domain.service.impl.ClaimRiskIndexImpl;
+import com.car.insurance.api.domain.service.impl.ClaimServiceImpl;
+
+/**
+ * Sobe a aplicação sem servidor web sobre um H2 em memória, para os benchmarks que consultam
+ * sinistros pelo banco.
+ */
+public final class H2Context {
+
+	private H2Context() {
+	}
+
+	public static ConfigurableApplicationContext start() {
+		return new SpringApplicationBuilder(CarInsuranceApiApplication.class)
+				.web(WebApplicationType.NONE)
+				.bannerMode(Banner.Mode.OFF)
+				.properties("spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+						"spring.jpa.show-sql=false",
+						"spring.h2.console.enabled=false",
+						"logging.level.root=WARN")
+				.run();
+	}
+
+	/**
+	 * Grava um carro com o número pedido de condutores e um sinistro para o último condutor.
+	 */
+	public static Car persistCar(ConfigurableApplicationContext context, int drivers) {
+		CarRepository carRepository = context.getBean(CarRepository.class);
+		DriverRepository driverRepository = context.getBean(DriverRepository.class);
+		CarDriverRepository carDriverRepository = context.getBean(CarDriverRepository.class);
+		ClaimRepository claimRepository = context.getBean(ClaimRepository.class);
+
+		Car car = carRepository.save(new Car(null, "Modelo", "Fabricante", "2020", 50000f, new ArrayList<>()));
+		Driver driver = null;
+		for (int i = 0; i < drivers; i++) {
+			driver = driverRepository.save(new Driver(null, String.format("%011d", i), LocalDate.of(1960 + i % 45, 1, 1)));
+			car.getCarDriver().add(carDriverRepository.save(new CarDriver(null, driver, car, null, i == 0)));
+		}
+		claimRepository.save(new Claim(null, LocalDateTime.now().minusMonths(1), driver, null));
+		return car;
+	}
+
+	/**
+	 * ClaimServiceImpl ligado ao repositório real e a um índice nunca carregado (sem rebuild o
+	 * índice não fica pronto), então toda consulta de sinistro vai ao banco.
+	 */
+	public static ClaimService repositoryClaimService(ConfigurableApplicationContext context) {
+		ClaimRepository repository = context.getBean(ClaimRepository.class);
+		ClaimRiskIndexImpl unloadedIndex = new ClaimRiskIndexImpl();
+		ReflectionTestUtils.setField(unloadedIndex, "repository", repository);
+		ClaimServiceImpl claimService = new ClaimServiceImpl();
+		ReflectionTestUtils.setField(claimService, "repository", repository);
+		ReflectionTestUtils.setField(claimService, "claimRiskIndex", unloadedIndex);
+		return claimService;
+	}
+}
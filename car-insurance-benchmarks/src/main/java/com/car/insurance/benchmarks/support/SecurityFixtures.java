@@ -0,0 +1,263 @@
+package com.car.insurance.benchmarks.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.car.insurance.api.security.authorization.AccessDecisionTable;
+import com.car.insurance.api.security.config.CustomAuthenticationFilter;
+import com.car.insurance.api.security.config.CustomAuthorizationFilter;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.car.insurance.api.security.config.SecurityProperties;
+import com.car.insurance.api.security.domain.Scope;
+import com.car.insurance.api.security.domain.SigningKey;
+import com.car.insurance.api.security.dto.TokenResponseDto;
+import com.car.insurance.api.security.exception.InvalidRefreshTokenException;
+import com.car.insurance.api.security.service.AccessDecisionService;
+import com.car.insurance.api.security.service.RefreshTokenService;
+import com.car.insurance.api.security.service.SigningKeyService;
+import com.car.insurance.api.security.service.TokenService;
+import com.car.insurance.api.security.service.impl.InMemoryRevocationStore;
+import com.car.insurance.api.security.service.impl.TokenServiceImpl;
+import com.car.insurance.api.security.signing.KeyMaterial;
+import com.car.insurance.api.security.signing.PrivateKeyCipher;
+import com.car.insurance.api.security.signing.SigningKeySet;
+import com.car.insurance.api.security.signing.SigningKeySet.ActiveKey;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Monta o TokenServiceImpl e os filtros de autenticação/autorização fora do Spring e emite tokens
+ * pelo mesmo caminho do login.
+ */
+public final class SecurityFixtures {
+
+	public static final String SECRET = "secret";
+	public static final String USERNAME = "usuario@email.com";
+	public static final String ROLE = "FINANCIAL_INFORMATION_API";
+
+	public static final FilterChain NO_OP_CHAIN = (request, response) -> {
+	};
+
+	private SecurityFixtures() {
+	}
+
+	public static SecurityProperties properties() {
+		SecurityProperties properties = new SecurityProperties();
+		properties.setTokenSecret(SECRET);
+		properties.setUsernameField("email");
+		properties.setPasswordField("senha");
+		properties.setVerifiedTokenCacheMaxSize(10_000);
+		properties.setRevocationMaxEntries(100_000);
+		properties.setAccessTokenTtlMinutes(10);
+		return properties;
+	}
+
+	public static TokenServiceImpl tokenService() {
+		return tokenService(KeyMaterial.HS256);
+	}
+
+	/**
+	 * TokenServiceImpl assinando com HS256 (segredo) ou com um par RS256/ES256 gerado em memória.
+	 */
+	public static TokenServiceImpl tokenService(String algorithm) {
+		SecurityProperties properties = properties();
+		properties.setSigningAlgorithm(algorithm);
+		return new TokenServiceImpl(properties, new SimpleMeterRegistry(), new InMemoryRevocationStore(properties),
+				new InMemorySigningKeys(algorithm), new FixedAccessDecisions());
+	}
+
+	public static CustomAuthenticationFilter authenticationFilter() {
+		return authenticationFilter(tokenService());
+	}
+
+	public static CustomAuthenticationFilter authenticationFilter(TokenServiceImpl tokenService) {
+		return new CustomAuthenticationFilter(null, properties(), new UnpersistedRefreshTokenService(tokenService));
+	}
+
+	public static CustomAuthorizationFilter authorizationFilter(TokenServiceImpl tokenService) {
+		return new CustomAuthorizationFilter(tokenService);
+	}
+
+	public static MockHttpServletRequest loginRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/login");
+		request.setServerPort(8081);
+		return request;
+	}
+
+	public static Authentication authentication() {
+		List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(ROLE));
+		return new UsernamePasswordAuthenticationToken(new User(USERNAME, "", authorities), null, authorities);
+	}
+
+	public static MethodHandle protectedMethod(Class<?> type, String name, MethodType methodType) {
+		try {
+			return MethodHandles.privateLookupIn(type, MethodHandles.lookup()).findVirtual(type, name, methodType);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Método " + name + " não encontrado em " + type.getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Tabela com o scope ROLE na posição 0, para que os tokens saiam com a máscara de scopes.
+	 */
+	private static class FixedAccessDecisions implements AccessDecisionService {
+
+		private final AccessDecisionTable table = AccessDecisionTable.compile(
+				List.of(new Scope(1, ROLE, 0, new HashSet<>())), List.of(), List.of(), 1);
+
+		@Override
+		public AccessDecisionTable currentTable() {
+			return table;
+		}
+
+		@Override
+		public AccessDecisionTable reload() {
+			return table;
+		}
+	}
+
+	private static class InMemorySigningKeys implements SigningKeyService {
+
+		private final String algorithm;
+		private final SigningKeySet keys;
+
+		InMemorySigningKeys(String algorithm) {
+			this.algorithm = algorithm;
+			if (KeyMaterial.HS256.equals(algorithm)) {
+				this.keys = null;
+				return;
+			}
+			KeyPair pair = KeyMaterial.generate(algorithm);
+			PrivateKeyCipher cipher = new PrivateKeyCipher(SECRET);
+			Instant now = Instant.now();
+			this.keys = SigningKeySet.of(List.of(new SigningKey("benchmark", algorithm,
+					KeyMaterial.encode(pair.getPublic()), cipher.encrypt("benchmark", KeyMaterial.encode(pair.getPrivate())),
+					now, now, null)), cipher);
+		}
+
+		@Override
+		public ActiveKey signingKey() {
+			if (keys == null)
+				return new ActiveKey(null, Instant.EPOCH, Algorithm.HMAC256(SECRET));
+			return keys.signingKey(Instant.now());
+		}
+
+		@Override
+		public Algorithm verificationAlgorithm() {
+			if (keys == null)
+				return Algorithm.HMAC256(SECRET);
+			PublicKey publicKey = keys.publicKey("benchmark");
+			if (KeyMaterial.ES256.equals(algorithm))
+				return Algorithm.ECDSA256((ECPublicKey) publicKey, null);
+			return Algorithm.RSA256((RSAPublicKey) publicKey, null);
+		}
+
+		@Override
+		public Map<String, Object> jwks() {
+			return Map.of("keys", keys == null ? List.of() : keys.getJwks());
+		}
+
+		@Override
+		public void rotate() {
+		}
+	}
+
+	/**
+	 * Refresh tokens em memória, com as mesmas regras do RefreshTokenServiceImpl (uso único e
+	 * revogação da família na reapresentação), para medir a assinatura sem o banco.
+	 */
+	private static class UnpersistedRefreshTokenService implements RefreshTokenService {
+
+		private final TokenServiceImpl tokenService;
+		private final Set<String> issued = ConcurrentHashMap.newKeySet();
+		private final Set<String> revokedFamilies = ConcurrentHashMap.newKeySet();
+
+		UnpersistedRefreshTokenService(TokenServiceImpl tokenService) {
+			this.tokenService = tokenService;
+		}
+
+		@Override
+		public TokenResponseDto issue(String subject, List<String> roles, String issuer) {
+			return issue(subject, roles, issuer, UUID.randomUUID().toString());
+		}
+
+		@Override
+		public TokenResponseDto refresh(String refreshToken, String issuer) throws InvalidRefreshTokenException {
+			DecodedJWT decoded;
+			try {
+				decoded = tokenService.verifyRefreshToken(refreshToken);
+			} catch (JWTVerificationException ex) {
+				throw new InvalidRefreshTokenException("Refresh token inválido ou expirado.");
+			}
+
+			String family = decoded.getClaim(TokenService.FAMILY_CLAIM).asString();
+			if (decoded.getId() == null || family == null)
+				throw new InvalidRefreshTokenException("Refresh token inválido ou expirado.");
+			if (revokedFamilies.contains(family) || !issued.remove(decoded.getId())) {
+				revokedFamilies.add(family);
+				throw new InvalidRefreshTokenException("Refresh token já utilizado ou revogado.");
+			}
+
+			List<String> roles = decoded.getClaim(TokenService.ROLES_CLAIM).asList(String.class);
+			return issue(decoded.getSubject(), roles == null ? List.of() : roles, issuer, family);
+		}
+
+		@Override
+		public void revokeFamily(String family) {
+			revokedFamilies.add(family);
+		}
+
+		private TokenResponseDto issue(String subject, List<String> roles, String issuer, String family) {
+			String jti = UUID.randomUUID().toString();
+			issued.add(jti);
+			Instant expiresAt = Instant.now().plus(Duration.ofDays(1));
+			return new TokenResponseDto(tokenService.issueAccessToken(subject, roles, issuer, family),
+					tokenService.issueRefreshToken(subject, roles, issuer, jti, family, expiresAt));
+		}
+	}
+
+	/**
+	 * Emite um token chamando o successfulAuthentication do filtro de login e lendo o corpo da resposta.
+	 */
+	public static String login(CustomAuthenticationFilter filter, MethodHandle successfulAuthentication) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			successfulAuthentication.invoke(filter, (HttpServletRequest) loginRequest(),
+					(HttpServletResponse) response, NO_OP_CHAIN, authentication());
+			Map<String, String> body = new ObjectMapper().readValue(response.getContentAsByteArray(),
+					new TypeReference<Map<String, String>>() {
+					});
+			return body.get("token");
+		} catch (Throwable e) {
+			throw new IllegalStateException("Falha ao emitir o token de benchmark", e);
+		}
+	}
+}
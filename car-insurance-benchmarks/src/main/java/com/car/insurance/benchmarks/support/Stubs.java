@@ -0,0 +1,149 @@
+package com.car.insurance.benchmarks.support;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.car.insurance.api.domain.Car;
+import com.car.insurance.api.domain.Claim;
+import com.car.insurance.api.domain.Driver;
+import com.car.insurance.api.domain.pricing.QuoteKey;
+import com.car.insurance.api.domain.service.CarService;
+import com.car.insurance.api.domain.service.ClaimService;
+import com.car.insurance.api.domain.service.QuoteCache;
+
+/**
+ * Implementações em memória dos colaboradores do BudgetServiceImpl que dependem do banco, para que
+ * o benchmark meça só o código de precificação. Os demais colaboradores são as classes reais (ver
+ * Fixtures).
+ */
+public final class Stubs {
+
+	private Stubs() {
+	}
+
+	public static class FixedCarService implements CarService {
+
+		private final Map<Integer, Car> cars = new HashMap<>();
+
+		public FixedCarService(Collection<Car> cars) {
+			cars.forEach(car -> this.cars.put(car.getId(), car));
+		}
+
+		@Override
+		public Car getCarById(Integer id) {
+			return cars.get(id);
+		}
+
+		@Override
+		public Map<Integer, Car> getCarsByIds(Collection<Integer> ids) {
+			Map<Integer, Car> result = new HashMap<>();
+			for (Integer id : ids) {
+				Car car = cars.get(id);
+				if (car != null)
+					result.put(id, car);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Um sinistro para cada condutor e cada carro informados, respondendo como o ClaimServiceImpl
+	 * com o índice carregado.
+	 */
+	public static class InMemoryClaimService implements ClaimService {
+
+		private final Set<Integer> driversWithClaims;
+		private final Set<Integer> carsWithClaims;
+		private final List<Claim> claims = new ArrayList<>();
+
+		public InMemoryClaimService(Set<Integer> driversWithClaims, Set<Integer> carsWithClaims) {
+			this.driversWithClaims = driversWithClaims;
+			this.carsWithClaims = carsWithClaims;
+			LocalDateTime eventDate = LocalDateTime.now().minusMonths(1);
+			for (Integer driverId : driversWithClaims)
+				claims.add(new Claim(claims.size() + 1, eventDate, new Driver(driverId, null, null), null));
+			for (Integer carId : carsWithClaims)
+				claims.add(new Claim(claims.size() + 1, eventDate, null,
+						new Car(carId, null, null, null, null, new ArrayList<>())));
+		}
+
+		@Override
+		public List<Claim> claimByCarId(Integer carId) {
+			return claims.stream().filter(claim -> claim.getCar() != null && claim.getCar().getId().equals(carId))
+					.collect(Collectors.toList());
+		}
+
+		@Override
+		public List<Claim> claimByDriverIdIn(List<Integer> ids) {
+			return claims.stream().filter(claim -> claim.getDriver() != null && ids.contains(claim.getDriver().getId()))
+					.collect(Collectors.toList());
+		}
+
+		@Override
+		public boolean isIndexed() {
+			return true;
+		}
+
+		@Override
+		public boolean hasClaimsForDrivers(Collection<Integer> driverIds) {
+			for (Integer driverId : driverIds)
+				if (driversWithClaims.contains(driverId))
+					return true;
+			return false;
+		}
+
+		@Override
+		public boolean hasClaimsForCar(Integer carId) {
+			return carsWithClaims.contains(carId);
+		}
+
+		@Override
+		public Set<Integer> driverIdsWithClaims(Collection<Integer> driverIds) {
+			Set<Integer> result = new HashSet<>(driverIds);
+			result.retainAll(driversWithClaims);
+			return result;
+		}
+
+		@Override
+		public Set<Integer> carIdsWithClaims(Collection<Integer> carIds) {
+			Set<Integer> result = new HashSet<>(carIds);
+			result.retainAll(carsWithClaims);
+			return result;
+		}
+	}
+
+	/**
+	 * Cache que nunca encontra nada, para medir o cálculo completo a cada chamada.
+	 */
+	public static class MissingQuoteCache implements QuoteCache {
+
+		@Override
+		public QuoteKey keyFor(Car car, Float fipeValue, long tariffVersion) {
+			return null;
+		}
+
+		@Override
+		public Double get(QuoteKey key) {
+			return null;
+		}
+
+		@Override
+		public void put(QuoteKey key, double amount) {
+		}
+
+		@Override
+		public void invalidateCar(Integer carId) {
+		}
+
+		@Override
+		public void claimChanged(Integer driverId, Integer carId) {
+		}
+	}
+}